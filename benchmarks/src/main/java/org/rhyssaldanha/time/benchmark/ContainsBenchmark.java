@@ -0,0 +1,76 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContainsBenchmark {
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Timespan timespan = Timespan.from(start, Duration.ofHours(5));
+    private final Timespan startOnly = Timespan.starting(start);
+    private final Instant during = start.plus(Duration.ofHours(2));
+    private final long duringEpochMilli = during.toEpochMilli();
+    private final long[] epochNanos = new Random(42).longs(1024,
+            start.minusSeconds(3_600).toEpochMilli() * 1_000_000,
+            start.plusSeconds(6 * 3_600).toEpochMilli() * 1_000_000).toArray();
+    private final boolean[] contained = new boolean[epochNanos.length];
+
+    @Benchmark
+    public boolean contains() {
+        return timespan.contains(during);
+    }
+
+    @Benchmark
+    public boolean containsStartOnly() {
+        return startOnly.contains(during);
+    }
+
+    @Benchmark
+    public boolean containsEpochSecondAndNano() {
+        return timespan.contains(during.getEpochSecond(), during.getNano());
+    }
+
+    @Benchmark
+    public boolean containsEpochMilli() {
+        return timespan.containsEpochMilli(duringEpochMilli);
+    }
+
+    @Benchmark
+    public boolean overlaps() {
+        return timespan.overlaps(startOnly);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public boolean[] containsAll() {
+        timespan.containsAll(epochNanos, contained);
+        return contained;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1024)
+    public BitSet containsAllBitSet() {
+        return timespan.containsAll(epochNanos);
+    }
+}
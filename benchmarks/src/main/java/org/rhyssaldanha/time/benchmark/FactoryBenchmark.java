@@ -0,0 +1,44 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Duration duration = Duration.ofHours(5);
+    private final Instant end = start.plus(duration);
+
+    @Benchmark
+    public Timespan of() {
+        return Timespan.of(start, end);
+    }
+
+    @Benchmark
+    public Timespan from() {
+        return Timespan.from(start, duration);
+    }
+
+    @Benchmark
+    public Timespan starting() {
+        return Timespan.starting(start);
+    }
+}
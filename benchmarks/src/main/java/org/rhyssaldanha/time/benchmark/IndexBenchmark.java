@@ -0,0 +1,92 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.index.ConcurrentTimespanIndex;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class IndexBenchmark {
+
+    private static final int TIMESPANS = 1024;
+    private static final long RANGE_SECONDS = Duration.ofDays(30).getSeconds();
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final List<Timespan> synchronizedList = Collections.synchronizedList(new ArrayList<>());
+    private ConcurrentTimespanIndex index;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        for (int i = 0; i < TIMESPANS; i++) {
+            final Instant from = start.plusSeconds((long) (random.nextDouble() * RANGE_SECONDS));
+            synchronizedList.add(Timespan.from(from, Duration.ofHours(1 + random.nextInt(4))));
+        }
+        index = new ConcurrentTimespanIndex(synchronizedList);
+    }
+
+    private Instant instant() {
+        return start.plusSeconds(ThreadLocalRandom.current().nextLong(RANGE_SECONDS));
+    }
+
+    @Benchmark
+    public List<Timespan> containingSynchronizedList() {
+        final Instant instant = instant();
+        final List<Timespan> result = new ArrayList<>();
+        synchronized (synchronizedList) {
+            for (final Timespan timespan : synchronizedList) {
+                if (timespan.contains(instant)) {
+                    result.add(timespan);
+                }
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Timespan> containingConcurrentIndex() {
+        return index.containing(instant());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public List<Timespan> readWhileWriting() {
+        return index.containing(instant());
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public boolean writeWhileReading() {
+        final Timespan timespan = Timespan.from(instant(), Duration.ofHours(1));
+        index.add(timespan);
+        return index.remove(timespan);
+    }
+}
@@ -0,0 +1,85 @@
+package org.rhyssaldanha.time.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.jackson.TimespanMixIn;
+import org.rhyssaldanha.time.jackson.TimespanModule;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addMixIn(Timespan.class, TimespanMixIn.class)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .build();
+    private final ObjectMapper moduleMapper = JsonMapper.builder()
+            .addModule(new TimespanModule())
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .build();
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Timespan timespan = Timespan.from(start, Duration.ofHours(5));
+    private final Timespan startOnly = Timespan.starting(start);
+
+    private String timespanJson;
+    private String startOnlyJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        timespanJson = objectMapper.writeValueAsString(timespan);
+        startOnlyJson = objectMapper.writeValueAsString(startOnly);
+    }
+
+    @Benchmark
+    public String serialise() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(timespan);
+    }
+
+    @Benchmark
+    public String serialiseStartOnly() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(startOnly);
+    }
+
+    @Benchmark
+    public Timespan deserialise() throws JsonProcessingException {
+        return objectMapper.readValue(timespanJson, Timespan.class);
+    }
+
+    @Benchmark
+    public Timespan deserialiseStartOnly() throws JsonProcessingException {
+        return objectMapper.readValue(startOnlyJson, Timespan.class);
+    }
+
+    @Benchmark
+    public String serialiseModule() throws JsonProcessingException {
+        return moduleMapper.writeValueAsString(timespan);
+    }
+
+    @Benchmark
+    public Timespan deserialiseModule() throws JsonProcessingException {
+        return moduleMapper.readValue(timespanJson, Timespan.class);
+    }
+}
@@ -0,0 +1,63 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.index.TimespanScan;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scans packed epoch nanos. On Java 21 and later, run with {@code -jvmArgsAppend --add-modules=jdk.incubator.vector}
+ * to compare the Vector API scan with the scalar one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScanBenchmark {
+
+    private static final long HOUR_NANOS = 3_600_000_000_000L;
+
+    @Param({"65536", "4194304"})
+    private int size;
+
+    private long[] starts;
+    private long[] ends;
+    private long[] mask;
+    private long instant;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        starts = new long[size];
+        ends = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = random.nextLong() % (1_000 * HOUR_NANOS);
+            ends[i] = starts[i] + random.nextLong() % HOUR_NANOS + HOUR_NANOS;
+        }
+        mask = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        instant = starts[size / 2];
+    }
+
+    @Benchmark
+    public int containing() {
+        return TimespanScan.containing(starts, ends, instant, mask);
+    }
+
+    @Benchmark
+    public int overlapping() {
+        return TimespanScan.overlapping(starts, ends, instant, instant + HOUR_NANOS, mask);
+    }
+}
@@ -0,0 +1,78 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SplitBenchmark {
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Timespan timespan = Timespan.from(start, Duration.ofHours(5));
+    private final Timespan startOnly = Timespan.starting(start);
+    private final Instant during = start.plus(Duration.ofHours(2));
+    private final Timespan day = Timespan.from(start, Duration.ofDays(1));
+    private final Timespan year = Timespan.from(start, Duration.ofDays(365));
+    private final ZoneId zone = ZoneId.of("America/New_York");
+
+    @Benchmark
+    public Timespan to() {
+        return timespan.to(during);
+    }
+
+    @Benchmark
+    public Timespan from() {
+        return timespan.from(during);
+    }
+
+    @Benchmark
+    public Timespan fromStartOnly() {
+        return startOnly.from(during);
+    }
+
+    @Benchmark
+    public void splitDayIntoMinutesWithToAndFrom(final Blackhole blackhole) {
+        Timespan remaining = day;
+        Instant next = start.plus(Duration.ofMinutes(1));
+        while (remaining.contains(next)) {
+            blackhole.consume(remaining.to(next));
+            remaining = remaining.from(next);
+            next = next.plus(Duration.ofMinutes(1));
+        }
+        blackhole.consume(remaining);
+    }
+
+    @Benchmark
+    public void splitDayIntoMinutes(final Blackhole blackhole) {
+        day.split(Duration.ofMinutes(1)).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void splitDayInto1440(final Blackhole blackhole) {
+        day.splitInto(1440).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void splitYearByLocalDays(final Blackhole blackhole) {
+        year.splitBy(zone, ChronoUnit.DAYS).forEach(blackhole::consume);
+    }
+}
@@ -0,0 +1,69 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Timespan#parse(CharSequence)} and {@link Timespan#format(Appendable)},
+ * against splitting the text and using {@link Instant#parse(CharSequence)} and {@link Duration#parse(CharSequence)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBenchmark {
+
+    private final String startEnd = "2020-02-08T09:00:00Z/2020-02-08T14:00:00.5Z";
+    private final String startDuration = "2020-02-08T09:00:00Z/PT5H";
+    private final Timespan timespan = Timespan.parse(startEnd);
+    private final StringBuilder builder = new StringBuilder();
+
+    @Benchmark
+    public Timespan parseStartEnd() {
+        return Timespan.parse(startEnd);
+    }
+
+    @Benchmark
+    public Timespan parseStartEndWithInstantParse() {
+        final int slash = startEnd.indexOf('/');
+        return Timespan.of(Instant.parse(startEnd.substring(0, slash)), Instant.parse(startEnd.substring(slash + 1)));
+    }
+
+    @Benchmark
+    public Timespan parseStartDuration() {
+        return Timespan.parse(startDuration);
+    }
+
+    @Benchmark
+    public Timespan parseStartDurationWithDurationParse() {
+        final int slash = startDuration.indexOf('/');
+        return Timespan.from(Instant.parse(startDuration.substring(0, slash)), Duration.parse(startDuration.substring(slash + 1)));
+    }
+
+    @Benchmark
+    public int format() throws IOException {
+        builder.setLength(0);
+        timespan.format(builder);
+        return builder.length();
+    }
+
+    @Benchmark
+    public String formatWithToString() {
+        return timespan.start() + "/" + timespan.end().orElseThrow();
+    }
+}
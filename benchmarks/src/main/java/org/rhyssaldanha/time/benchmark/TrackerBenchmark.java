@@ -0,0 +1,56 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.collection.ActiveTimespanTracker;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TrackerBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Instant end = start.plus(Duration.ofHours(5));
+    private final ActiveTimespanTracker<Integer> tracker = new ActiveTimespanTracker<>();
+    private final ConcurrentHashMap<Integer, Timespan> map = new ConcurrentHashMap<>();
+
+    @Benchmark
+    public Object openAndCloseWithCompute() {
+        final Integer key = ThreadLocalRandom.current().nextInt(KEYS);
+        map.compute(key, (k, open) -> open == null ? Timespan.starting(start) : open);
+        final Timespan[] closed = new Timespan[1];
+        map.compute(key, (k, open) -> {
+            closed[0] = open == null ? null : open.to(end);
+            return null;
+        });
+        return closed[0];
+    }
+
+    @Benchmark
+    public Object openAndCloseWithTracker() {
+        final Integer key = ThreadLocalRandom.current().nextInt(KEYS);
+        tracker.open(key, start);
+        return tracker.close(key, end);
+    }
+}
@@ -0,0 +1,59 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link Timespan#duration()}, {@link Timespan#equals(Object)} and {@link Timespan#hashCode()}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueBenchmark {
+
+    private final Instant start = Instant.parse("2020-02-08T09:00:00Z");
+    private final Timespan timespan = Timespan.from(start, Duration.ofHours(5));
+    private final Timespan equalTimespan = Timespan.from(start, Duration.ofHours(5));
+    private final Timespan startOnly = Timespan.starting(start);
+
+    @Benchmark
+    public Optional<Duration> duration() {
+        return timespan.duration();
+    }
+
+    @Benchmark
+    public boolean equalsEqual() {
+        return timespan.equals(equalTimespan);
+    }
+
+    @Benchmark
+    public boolean equalsStartOnly() {
+        return timespan.equals(startOnly);
+    }
+
+    @Benchmark
+    public int hashCodeTimespan() {
+        return timespan.hashCode();
+    }
+
+    @Benchmark
+    public int hashCodeStartOnly() {
+        return startOnly.hashCode();
+    }
+}
@@ -0,0 +1,69 @@
+package org.rhyssaldanha.time.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.index.TimespanIntervalTree;
+import org.rhyssaldanha.time.index.TimespanWheelIndex;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point queries over a skewed set of a million timespans, mostly of seconds, with a few lasting days.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WheelBenchmark {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final int RANGE_MILLIS = 20 * 86_400_000;
+
+    private final Random random = new Random(42);
+
+    private TimespanIntervalTree tree;
+    private TimespanWheelIndex wheel;
+
+    @Setup
+    public void setUp() {
+        final List<Timespan> timespans = new ArrayList<>();
+        for (int i = 0; i < 1_000_000; i++) {
+            final Instant start = START.plusMillis(random.nextInt(RANGE_MILLIS));
+            timespans.add(Timespan.from(start, i % 10_000 == 0
+                    ? Duration.ofDays(1 + random.nextInt(10))
+                    : Duration.ofMillis(random.nextInt(30_000))));
+        }
+        tree = TimespanIntervalTree.of(timespans);
+        wheel = TimespanWheelIndex.of(timespans);
+    }
+
+    private Instant instant() {
+        return START.plusMillis(random.nextInt(RANGE_MILLIS));
+    }
+
+    @Benchmark
+    public List<Timespan> treeContaining() {
+        return tree.containing(instant());
+    }
+
+    @Benchmark
+    public List<Timespan> wheelContaining() {
+        return wheel.containing(instant());
+    }
+}
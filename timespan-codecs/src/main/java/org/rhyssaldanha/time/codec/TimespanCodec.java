@@ -0,0 +1,310 @@
+package org.rhyssaldanha.time.codec;
+
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.collection.TimespanBuffer;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Compact binary encoding of {@link Timespan}s.
+ * <p>
+ * A timespan is written as:
+ * <ol>
+ *     <li>the start epoch second, as a zig-zag varint,</li>
+ *     <li>the start nano-of-second, as a varint,</li>
+ *     <li>a varint tag, which is {@code 1} for a start-only timespan, or the whole seconds of the duration
+ *     shifted left by one,</li>
+ *     <li>the nanos of the duration, as a varint, unless the timespan is start-only.</li>
+ * </ol>
+ * A sequence of timespans is written as a varint count, then each timespan with its start epoch second
+ * replaced by the difference from the previous start. Sequences sorted by start give small differences,
+ * but any order can be encoded.
+ * <p>
+ * Encoding writes each varint straight to its output, and allocates nothing. Decoding reads each varint straight
+ * from its input, and allocates nothing but the decoded timespans, or nothing at all when decoding into a
+ * {@link TimespanBuffer}.
+ * <p>
+ * Decoding rejects malformed input rather than decode it to the wrong timespan: an odd tag other than the
+ * start-only tag, or a start which overflows, throws an {@link IllegalArgumentException} or an
+ * {@link ArithmeticException}, and nanos out of range throw a {@link DateTimeException}.
+ */
+public final class TimespanCodec {
+
+    /**
+     * The most bytes one timespan of a single, or sequence, encoding can take.
+     */
+    public static final int MAX_ENCODED_LENGTH = 30;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final long START_ONLY_TAG = 1;
+    private static final int MIN_ENCODED_LENGTH = 3;
+    private static final int DATA_INPUT_INITIAL_CAPACITY = 1_024;
+
+    private TimespanCodec() {
+    }
+
+    public static void encode(final Timespan timespan, final ByteBuffer out) {
+        requireNonNull(timespan, "timespan must not be null");
+        requireNonNull(out, "out must not be null");
+        encode(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano(),
+                timespan.isStartOnly(), 0, out);
+    }
+
+    public static void encode(final Timespan timespan, final DataOutput out) throws IOException {
+        requireNonNull(timespan, "timespan must not be null");
+        requireNonNull(out, "out must not be null");
+        encode(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano(),
+                timespan.isStartOnly(), 0, out);
+    }
+
+    public static Timespan decode(final ByteBuffer in) {
+        requireNonNull(in, "in must not be null");
+        return decode(in, 0);
+    }
+
+    public static Timespan decode(final DataInput in) throws IOException {
+        requireNonNull(in, "in must not be null");
+        return decode(in, 0);
+    }
+
+    public static void encodeAll(final Collection<Timespan> timespans, final ByteBuffer out) {
+        requireNonNull(timespans, "timespans must not be null");
+        requireNonNull(out, "out must not be null");
+        writeVarint(timespans.size(), out);
+        long previousStart = 0;
+        for (final Timespan timespan : timespans) {
+            requireNonNull(timespan, "timespans must not contain null");
+            encode(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano(),
+                    timespan.isStartOnly(), previousStart, out);
+            previousStart = timespan.startEpochSecond();
+        }
+    }
+
+    public static void encodeAll(final Collection<Timespan> timespans, final DataOutput out) throws IOException {
+        requireNonNull(timespans, "timespans must not be null");
+        requireNonNull(out, "out must not be null");
+        writeVarint(timespans.size(), out);
+        long previousStart = 0;
+        for (final Timespan timespan : timespans) {
+            requireNonNull(timespan, "timespans must not contain null");
+            encode(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano(),
+                    timespan.isStartOnly(), previousStart, out);
+            previousStart = timespan.startEpochSecond();
+        }
+    }
+
+    public static void encodeAll(final TimespanBuffer timespans, final ByteBuffer out) {
+        requireNonNull(timespans, "timespans must not be null");
+        requireNonNull(out, "out must not be null");
+        writeVarint(timespans.size(), out);
+        long previousStart = 0;
+        for (int i = 0; i < timespans.size(); i++) {
+            final long start = timespans.startEpochSecond(i);
+            encode(start, timespans.startNano(i), timespans.endEpochSecond(i), timespans.endNano(i),
+                    timespans.isStartOnly(i), previousStart, out);
+            previousStart = start;
+        }
+    }
+
+    public static List<Timespan> decodeAll(final ByteBuffer in) {
+        requireNonNull(in, "in must not be null");
+        final int count = readCount(readVarint(in));
+        final List<Timespan> timespans = new ArrayList<>(Math.min(count, in.remaining() / MIN_ENCODED_LENGTH));
+        long previousStart = 0;
+        for (int i = 0; i < count; i++) {
+            final Timespan timespan = decode(in, previousStart);
+            timespans.add(timespan);
+            previousStart = timespan.startEpochSecond();
+        }
+        return timespans;
+    }
+
+    public static List<Timespan> decodeAll(final DataInput in) throws IOException {
+        requireNonNull(in, "in must not be null");
+        final int count = readCount(readVarint(in));
+        final List<Timespan> timespans = new ArrayList<>(Math.min(count, DATA_INPUT_INITIAL_CAPACITY));
+        long previousStart = 0;
+        for (int i = 0; i < count; i++) {
+            final Timespan timespan = decode(in, previousStart);
+            timespans.add(timespan);
+            previousStart = timespan.startEpochSecond();
+        }
+        return timespans;
+    }
+
+    /**
+     * Decodes a sequence into a buffer, which must have space for every timespan in the sequence.
+     */
+    public static void decodeAll(final ByteBuffer in, final TimespanBuffer out) {
+        requireNonNull(in, "in must not be null");
+        requireNonNull(out, "out must not be null");
+        final int count = readCount(readVarint(in));
+        long previousStart = 0;
+        for (int i = 0; i < count; i++) {
+            final long start = start(previousStart, readVarint(in));
+            final int startNano = nano(readVarint(in));
+            final long tag = readVarint(in);
+            if (tag == START_ONLY_TAG) {
+                out.addStarting(start, startNano);
+            } else {
+                long endSecond = Math.addExact(start, durationSeconds(tag));
+                int endNano = startNano + nano(readVarint(in));
+                if (endNano >= NANOS_PER_SECOND) {
+                    endSecond++;
+                    endNano -= NANOS_PER_SECOND;
+                }
+                out.add(start, startNano, endSecond, endNano);
+            }
+            previousStart = start;
+        }
+    }
+
+    private static void encode(final long startSecond, final int startNano, final long endSecond, final int endNano,
+                               final boolean startOnly, final long previousStart, final ByteBuffer out) {
+        writeVarint(zigZagEncode(startSecond - previousStart), out);
+        writeVarint(startNano, out);
+        if (startOnly) {
+            writeVarint(START_ONLY_TAG, out);
+            return;
+        }
+        long durationSeconds = endSecond - startSecond;
+        int durationNanos = endNano - startNano;
+        if (durationNanos < 0) {
+            durationSeconds--;
+            durationNanos += NANOS_PER_SECOND;
+        }
+        writeVarint(durationSeconds << 1, out);
+        writeVarint(durationNanos, out);
+    }
+
+    private static void encode(final long startSecond, final int startNano, final long endSecond, final int endNano,
+                               final boolean startOnly, final long previousStart, final DataOutput out) throws IOException {
+        writeVarint(zigZagEncode(startSecond - previousStart), out);
+        writeVarint(startNano, out);
+        if (startOnly) {
+            writeVarint(START_ONLY_TAG, out);
+            return;
+        }
+        long durationSeconds = endSecond - startSecond;
+        int durationNanos = endNano - startNano;
+        if (durationNanos < 0) {
+            durationSeconds--;
+            durationNanos += NANOS_PER_SECOND;
+        }
+        writeVarint(durationSeconds << 1, out);
+        writeVarint(durationNanos, out);
+    }
+
+    private static Timespan decode(final ByteBuffer in, final long previousStart) {
+        final long start = start(previousStart, readVarint(in));
+        final int startNano = nano(readVarint(in));
+        final long tag = readVarint(in);
+        return tag == START_ONLY_TAG
+                ? Timespan.startingEpochSecond(start, startNano)
+                : timespan(start, startNano, tag, readVarint(in));
+    }
+
+    private static Timespan decode(final DataInput in, final long previousStart) throws IOException {
+        final long start = start(previousStart, readVarint(in));
+        final int startNano = nano(readVarint(in));
+        final long tag = readVarint(in);
+        return tag == START_ONLY_TAG
+                ? Timespan.startingEpochSecond(start, startNano)
+                : timespan(start, startNano, tag, readVarint(in));
+    }
+
+    private static Timespan timespan(final long start, final int startNano, final long tag, final long durationNanos) {
+        long endSecond = Math.addExact(start, durationSeconds(tag));
+        int endNano = startNano + nano(durationNanos);
+        if (endNano >= NANOS_PER_SECOND) {
+            endSecond++;
+            endNano -= NANOS_PER_SECOND;
+        }
+        return Timespan.ofEpochSecond(start, startNano, endSecond, endNano);
+    }
+
+    private static long start(final long previousStart, final long delta) {
+        return Math.addExact(previousStart, zigZagDecode(delta));
+    }
+
+    private static int nano(final long value) {
+        if (value < 0 || value >= NANOS_PER_SECOND) {
+            throw new DateTimeException("nano must be between 0 and 999999999");
+        }
+        return (int) value;
+    }
+
+    /**
+     * @return the whole seconds of the duration in a tag which is not the start-only tag
+     */
+    private static long durationSeconds(final long tag) {
+        if ((tag & 1) != 0) {
+            throw new IllegalArgumentException("malformed timespan tag");
+        }
+        return tag >>> 1;
+    }
+
+    private static int readCount(final long count) {
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("sequence is too long");
+        }
+        return (int) count;
+    }
+
+    static long zigZagEncode(final long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long zigZagDecode(final long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(long value, final ByteBuffer out) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static void writeVarint(long value, final DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarint(final ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    private static long readVarint(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+}
@@ -0,0 +1,334 @@
+package org.rhyssaldanha.time.codec;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static java.util.Objects.requireNonNull;
+import static org.rhyssaldanha.time.codec.TimespanCodec.zigZagDecode;
+import static org.rhyssaldanha.time.codec.TimespanCodec.zigZagEncode;
+
+/**
+ * Bit-packed, column oriented encoding of {@link Timespan} sequences, in the style of the Gorilla time series format.
+ * <p>
+ * A sequence is written as a header of three big-endian ints, the count of timespans and the lengths in bytes of
+ * the two columns which follow it:
+ * <ol>
+ *     <li>the starts column holds the first start epoch second in 64 bits, then the delta-of-delta of each
+ *     following start epoch second. A start nano-of-second is a {@code 0} bit if it is the same as the previous one,
+ *     otherwise a {@code 1} bit and 30 bits.</li>
+ *     <li>the durations column holds a {@code 0} bit if a timespan has the same duration as the previous one,
+ *     or is start-only like it, {@code 10} if it is start-only, and otherwise {@code 11} with the delta of its
+ *     whole seconds from the previous duration, then its nanos as for the starts.</li>
+ * </ol>
+ * Deltas are zig-zag encoded behind a prefix which sets their width: {@code 0} for zero, then {@code 10}, {@code 110},
+ * {@code 1110}, {@code 11110} and {@code 11111} for 7, 9, 12, 32 and 64 bits.
+ * <p>
+ * Any order of timespans can be encoded, but sorted, regular sequences such as scheduled jobs compress best,
+ * to three bits per timespan when starts are evenly spaced and durations repeat.
+ */
+public final class TimespanColumnCodec {
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final int NANO_BITS = 30;
+    private static final int HEADER_LENGTH = 3 * Integer.BYTES;
+    private static final int MIN_START_BITS = 2;
+    private static final int MIN_DURATION_BITS = 1;
+
+    private TimespanColumnCodec() {
+    }
+
+    public static byte[] encode(final Collection<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        final BitWriter starts = new BitWriter(timespans.size());
+        final BitWriter durations = new BitWriter(timespans.size());
+
+        long previousStart = 0;
+        long previousDelta = 0;
+        int previousStartNano = 0;
+        boolean previousStartOnly = false;
+        long previousDurationSeconds = 0;
+        int previousDurationNanos = 0;
+        boolean first = true;
+        for (final Timespan timespan : timespans) {
+            requireNonNull(timespan, "timespans must not contain null");
+            final long start = timespan.startEpochSecond();
+            if (first) {
+                starts.write(start, 64);
+                first = false;
+            } else {
+                final long delta = start - previousStart;
+                writeDelta(starts, delta - previousDelta);
+                previousDelta = delta;
+            }
+            previousStart = start;
+            previousStartNano = writeNano(starts, timespan.startNano(), previousStartNano);
+
+            if (timespan.isStartOnly()) {
+                durations.write(previousStartOnly ? 0b0 : 0b10, previousStartOnly ? 1 : 2);
+                previousStartOnly = true;
+                continue;
+            }
+            long durationSeconds = timespan.endEpochSecond() - start;
+            int durationNanos = timespan.endNano() - timespan.startNano();
+            if (durationNanos < 0) {
+                durationSeconds--;
+                durationNanos += NANOS_PER_SECOND;
+            }
+            if (!previousStartOnly && durationSeconds == previousDurationSeconds && durationNanos == previousDurationNanos) {
+                durations.write(0b0, 1);
+            } else {
+                durations.write(0b11, 2);
+                writeDelta(durations, durationSeconds - previousDurationSeconds);
+                previousDurationNanos = writeNano(durations, durationNanos, previousDurationNanos);
+                previousDurationSeconds = durationSeconds;
+            }
+            previousStartOnly = false;
+        }
+
+        final int startsLength = starts.length();
+        final int durationsLength = durations.length();
+        final ByteBuffer out = ByteBuffer.allocate(HEADER_LENGTH + startsLength + durationsLength);
+        out.putInt(timespans.size()).putInt(startsLength).putInt(durationsLength);
+        out.put(starts.bytes(), 0, startsLength);
+        out.put(durations.bytes(), 0, durationsLength);
+        return out.array();
+    }
+
+    /**
+     * Starts decoding a sequence lazily. The position of the buffer is moved past the whole sequence straight away,
+     * and the decoder reads from its own view of the buffer, which must not change while it is in use.
+     * <p>
+     * Every timespan takes at least two bits of the starts column and one of the durations column, so a header
+     * which counts more timespans than its columns could hold is rejected before anything is allocated for them.
+     *
+     * @throws IllegalArgumentException if the header is malformed
+     */
+    public static Decoder decoder(final ByteBuffer in) {
+        requireNonNull(in, "in must not be null");
+        return new Decoder(in);
+    }
+
+    public static List<Timespan> decodeAll(final ByteBuffer in) {
+        final Decoder decoder = decoder(in);
+        final List<Timespan> timespans = new ArrayList<>(decoder.size());
+        decoder.forEachRemaining(timespans::add);
+        return timespans;
+    }
+
+    private static void writeDelta(final BitWriter out, final long delta) {
+        if (delta == 0) {
+            out.write(0b0, 1);
+            return;
+        }
+        final long value = zigZagEncode(delta);
+        if (value < 1L << 7) {
+            out.write(0b10, 2);
+            out.write(value, 7);
+        } else if (value < 1L << 9) {
+            out.write(0b110, 3);
+            out.write(value, 9);
+        } else if (value < 1L << 12) {
+            out.write(0b1110, 4);
+            out.write(value, 12);
+        } else if (value < 1L << 32) {
+            out.write(0b11110, 5);
+            out.write(value, 32);
+        } else {
+            out.write(0b11111, 5);
+            out.write(value, 64);
+        }
+    }
+
+    private static long readDelta(final BitReader in) {
+        int ones = 0;
+        while (ones < 5 && in.read(1) == 1) {
+            ones++;
+        }
+        switch (ones) {
+            case 0:
+                return 0;
+            case 1:
+                return zigZagDecode(in.read(7));
+            case 2:
+                return zigZagDecode(in.read(9));
+            case 3:
+                return zigZagDecode(in.read(12));
+            case 4:
+                return zigZagDecode(in.read(32));
+            default:
+                return zigZagDecode(in.read(64));
+        }
+    }
+
+    private static int writeNano(final BitWriter out, final int nano, final int previousNano) {
+        if (nano == previousNano) {
+            out.write(0b0, 1);
+        } else {
+            out.write(0b1, 1);
+            out.write(nano, NANO_BITS);
+        }
+        return nano;
+    }
+
+    private static int readNano(final BitReader in, final int previousNano) {
+        return in.read(1) == 0 ? previousNano : (int) in.read(NANO_BITS);
+    }
+
+    /**
+     * Decodes a sequence one timespan at a time, reading the two columns side by side.
+     */
+    public static final class Decoder implements Iterator<Timespan> {
+        private final int size;
+        private final BitReader starts;
+        private final BitReader durations;
+        private int index;
+
+        private long start;
+        private long delta;
+        private int startNano;
+        private boolean startOnly;
+        private long durationSeconds;
+        private int durationNanos;
+
+        private Decoder(final ByteBuffer in) {
+            final ByteBuffer header = in.duplicate().order(ByteOrder.BIG_ENDIAN);
+            this.size = header.getInt();
+            final int startsLength = header.getInt();
+            final int durationsLength = header.getInt();
+            if (size < 0 || startsLength < 0 || durationsLength < 0
+                    || header.remaining() < (long) startsLength + durationsLength
+                    || (long) size * MIN_START_BITS > (long) startsLength * Byte.SIZE
+                    || (long) size * MIN_DURATION_BITS > (long) durationsLength * Byte.SIZE) {
+                throw new IllegalArgumentException("malformed timespan columns");
+            }
+            final int startsOffset = header.position();
+            this.starts = new BitReader(slice(header, startsOffset, startsLength));
+            this.durations = new BitReader(slice(header, startsOffset + startsLength, durationsLength));
+            in.position(startsOffset + startsLength + durationsLength);
+        }
+
+        private static ByteBuffer slice(final ByteBuffer buffer, final int offset, final int length) {
+            final ByteBuffer slice = buffer.duplicate();
+            slice.limit(offset + length).position(offset);
+            return slice.slice();
+        }
+
+        /**
+         * @return the number of timespans in the sequence
+         */
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        public Timespan next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            if (index == 0) {
+                start = starts.read(64);
+            } else {
+                delta += readDelta(starts);
+                start += delta;
+            }
+            startNano = readNano(starts, startNano);
+
+            if (durations.read(1) == 1) {
+                if (durations.read(1) == 0) {
+                    startOnly = true;
+                } else {
+                    startOnly = false;
+                    durationSeconds += readDelta(durations);
+                    durationNanos = readNano(durations, durationNanos);
+                }
+            }
+            index++;
+
+            if (startOnly) {
+                return Timespan.startingEpochSecond(start, startNano);
+            }
+            long endSecond = start + durationSeconds;
+            int endNano = startNano + durationNanos;
+            if (endNano >= NANOS_PER_SECOND) {
+                endSecond++;
+                endNano -= NANOS_PER_SECOND;
+            }
+            return Timespan.ofEpochSecond(start, startNano, endSecond, endNano);
+        }
+    }
+
+    private static final class BitWriter {
+        private byte[] bytes;
+        private long bitLength;
+
+        BitWriter(final int expectedCount) {
+            this.bytes = new byte[Math.max(16, expectedCount)];
+        }
+
+        /**
+         * Writes the lowest {@code count} bits of a value, most significant first.
+         */
+        void write(final long value, final int count) {
+            for (int i = count - 1; i >= 0; i--) {
+                final int byteIndex = (int) (bitLength >>> 3);
+                if (byteIndex == bytes.length) {
+                    bytes = Arrays.copyOf(bytes, bytes.length * 2);
+                }
+                if ((value >>> i & 1) != 0) {
+                    bytes[byteIndex] |= (byte) (0x80 >>> (bitLength & 7));
+                }
+                bitLength++;
+            }
+        }
+
+        int length() {
+            return (int) ((bitLength + 7) >>> 3);
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+    }
+
+    private static final class BitReader {
+        private final ByteBuffer in;
+        private long bits;
+        private int available;
+
+        BitReader(final ByteBuffer in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads {@code count} bits, most significant first.
+         */
+        long read(final int count) {
+            if (count > 56) {
+                final long high = read(count - 32);
+                return high << 32 | read(32);
+            }
+            while (available < count) {
+                if (!in.hasRemaining()) {
+                    throw new IllegalArgumentException("malformed timespan columns");
+                }
+                bits = bits << 8 | (in.get() & 0xFF);
+                available += 8;
+            }
+            available -= count;
+            return bits >>> available & (1L << count) - 1;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package org.rhyssaldanha.time.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.collection.TimespanBuffer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimespanCodecTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    private static final List<Timespan> TIMESPANS = List.of(
+            Timespan.of(START, END),
+            Timespan.starting(START),
+            Timespan.of(START, START),
+            Timespan.of(START.plusNanos(999_999_999), END.plusNanos(1)),
+            Timespan.of(Instant.MIN, Instant.MAX),
+            Timespan.starting(Instant.MIN),
+            Timespan.of(Instant.ofEpochSecond(-1, 5), Instant.ofEpochSecond(0)));
+
+    @Nested
+    class Single {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanCodec.encode(null, ByteBuffer.allocate(64)));
+            assertThrows(NullPointerException.class, () -> TimespanCodec.encode(Timespan.starting(START), (ByteBuffer) null));
+        }
+
+        @Test
+        @DisplayName("round trips through a byte buffer")
+        void byteBuffer() {
+            for (final Timespan timespan : TIMESPANS) {
+                final ByteBuffer buffer = ByteBuffer.allocate(TimespanCodec.MAX_ENCODED_LENGTH);
+                TimespanCodec.encode(timespan, buffer);
+                buffer.flip();
+
+                assertEquals(timespan, TimespanCodec.decode(buffer));
+                assertEquals(0, buffer.remaining());
+            }
+        }
+
+        @Test
+        @DisplayName("round trips through data output and input")
+        void dataOutput() throws Exception {
+            for (final Timespan timespan : TIMESPANS) {
+                final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                TimespanCodec.encode(timespan, new DataOutputStream(bytes));
+
+                assertEquals(timespan, TimespanCodec.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+            }
+        }
+
+        @Test
+        @DisplayName("rejects malformed input")
+        void malformed() {
+            final byte[] oddTag = {0, 0, 3, 0};
+            assertThrows(IllegalArgumentException.class, () -> TimespanCodec.decode(ByteBuffer.wrap(oddTag)));
+            assertThrows(IllegalArgumentException.class,
+                    () -> TimespanCodec.decode(new DataInputStream(new ByteArrayInputStream(oddTag))));
+
+            final byte[] overflowingEnd = {2, 0, (byte) 0xFE, -1, -1, -1, -1, -1, -1, -1, -1, 1, 0};
+            assertThrows(ArithmeticException.class, () -> TimespanCodec.decode(ByteBuffer.wrap(overflowingEnd)));
+
+            final byte[] durationNanos = {0, 0, 0, (byte) 0x80, (byte) 0x94, (byte) 0xEB, (byte) 0xDC, 0x03};
+            assertThrows(DateTimeException.class, () -> TimespanCodec.decode(ByteBuffer.wrap(durationNanos)));
+        }
+
+        @Test
+        @DisplayName("whole second timespans are compact")
+        void compact() {
+            final ByteBuffer buffer = ByteBuffer.allocate(TimespanCodec.MAX_ENCODED_LENGTH);
+            TimespanCodec.encode(Timespan.of(START, END), buffer);
+
+            assertEquals(10, buffer.position());
+        }
+    }
+
+    @Nested
+    class Sequence {
+        private final List<Timespan> SORTED = sorted();
+
+        private List<Timespan> sorted() {
+            final Random random = new Random(42);
+            final List<Timespan> timespans = new ArrayList<>();
+            Instant start = START;
+            for (int i = 0; i < 1_000; i++) {
+                start = start.plusSeconds(random.nextInt(600));
+                timespans.add(random.nextInt(20) == 0
+                        ? Timespan.starting(start)
+                        : Timespan.from(start, Duration.ofSeconds(random.nextInt(3_600))));
+            }
+            return timespans;
+        }
+
+        @Test
+        @DisplayName("round trips through a byte buffer")
+        void byteBuffer() {
+            final ByteBuffer buffer = ByteBuffer.allocate(SORTED.size() * TimespanCodec.MAX_ENCODED_LENGTH);
+            TimespanCodec.encodeAll(SORTED, buffer);
+            buffer.flip();
+
+            assertEquals(SORTED, TimespanCodec.decodeAll(buffer));
+        }
+
+        @Test
+        @DisplayName("round trips through data output and input")
+        void dataOutput() throws Exception {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            TimespanCodec.encodeAll(TIMESPANS, new DataOutputStream(bytes));
+
+            assertEquals(TIMESPANS, TimespanCodec.decodeAll(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))));
+        }
+
+        @Test
+        @DisplayName("round trips through a timespan buffer")
+        void timespanBuffer() {
+            final TimespanBuffer source = TimespanBuffer.allocate(SORTED.size());
+            SORTED.forEach(source::add);
+
+            final ByteBuffer bytes = ByteBuffer.allocate(SORTED.size() * TimespanCodec.MAX_ENCODED_LENGTH);
+            TimespanCodec.encodeAll(source, bytes);
+            bytes.flip();
+            final TimespanBuffer target = TimespanBuffer.allocate(SORTED.size());
+            TimespanCodec.decodeAll(bytes, target);
+
+            assertEquals(SORTED.size(), target.size());
+            for (int i = 0; i < SORTED.size(); i++) {
+                assertEquals(SORTED.get(i), target.get(i));
+            }
+        }
+
+        @Test
+        @DisplayName("rejects invalid nanos when decoding into a timespan buffer")
+        void invalidNanos() {
+            final ByteBuffer bytes = ByteBuffer.wrap(new byte[]{1, 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x04, 1});
+            final TimespanBuffer target = TimespanBuffer.allocate(1);
+
+            assertThrows(DateTimeException.class, () -> TimespanCodec.decodeAll(bytes, target));
+            assertEquals(0, target.size());
+        }
+
+        @Test
+        @DisplayName("sorted timespans are delta encoded")
+        void compact() {
+            final ByteBuffer buffer = ByteBuffer.allocate(SORTED.size() * TimespanCodec.MAX_ENCODED_LENGTH);
+            TimespanCodec.encodeAll(SORTED, buffer);
+
+            assertTrue(buffer.position() < SORTED.size() * 7);
+        }
+    }
+
+    @Test
+    @DisplayName("zig-zag encoding round trips")
+    void zigZag() {
+        for (final long value : new long[]{0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            assertEquals(value, TimespanCodec.zigZagDecode(TimespanCodec.zigZagEncode(value)));
+        }
+        assertEquals(1, TimespanCodec.zigZagEncode(-1));
+        assertEquals(2, TimespanCodec.zigZagEncode(1));
+    }
+}
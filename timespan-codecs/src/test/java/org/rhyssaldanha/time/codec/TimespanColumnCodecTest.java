@@ -0,0 +1,123 @@
+package org.rhyssaldanha.time.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimespanColumnCodecTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    private static final List<Timespan> TIMESPANS = List.of(
+            Timespan.of(START, END),
+            Timespan.starting(START),
+            Timespan.starting(START),
+            Timespan.of(START, START),
+            Timespan.of(START.plusNanos(999_999_999), END.plusNanos(1)),
+            Timespan.of(Instant.MIN, Instant.MAX),
+            Timespan.starting(Instant.MIN),
+            Timespan.of(Instant.MAX, Instant.MAX),
+            Timespan.of(Instant.ofEpochSecond(-1, 5), Instant.ofEpochSecond(0)));
+
+    private static List<Timespan> roundTrip(final List<Timespan> timespans) {
+        return TimespanColumnCodec.decodeAll(ByteBuffer.wrap(TimespanColumnCodec.encode(timespans)));
+    }
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        assertThrows(NullPointerException.class, () -> TimespanColumnCodec.encode(null));
+        assertThrows(NullPointerException.class, () -> TimespanColumnCodec.encode(Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> TimespanColumnCodec.decoder(null));
+    }
+
+    @Test
+    @DisplayName("round trips edge cases")
+    void edgeCases() {
+        assertEquals(TIMESPANS, roundTrip(TIMESPANS));
+        assertEquals(List.of(), roundTrip(List.of()));
+    }
+
+    @Test
+    @DisplayName("round trips random timespans in any order")
+    void random() {
+        final Random random = new Random(42);
+        final List<Timespan> timespans = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            final Instant start = Instant.ofEpochSecond(random.nextInt(), random.nextInt(3) == 0 ? random.nextInt(1_000_000_000) : 0);
+            timespans.add(random.nextInt(10) == 0
+                    ? Timespan.starting(start)
+                    : Timespan.from(start, Duration.ofSeconds(random.nextInt(1 << random.nextInt(31)), random.nextInt(2) * random.nextInt(1_000_000_000))));
+        }
+
+        assertEquals(timespans, roundTrip(timespans));
+    }
+
+    @Test
+    @DisplayName("regular timespans take three bits each")
+    void regular() {
+        final List<Timespan> hourly = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            hourly.add(Timespan.from(START.plus(Duration.ofHours(i)), Duration.ofMinutes(5)));
+        }
+        final byte[] bytes = TimespanColumnCodec.encode(hourly);
+
+        assertTrue(bytes.length <= 10_000 * 3 / 8 + 32, "encoded in " + bytes.length + " bytes");
+        assertEquals(hourly, TimespanColumnCodec.decodeAll(ByteBuffer.wrap(bytes)));
+    }
+
+    @Test
+    @DisplayName("decodes lazily and moves past the sequence")
+    void decoder() {
+        final byte[] first = TimespanColumnCodec.encode(TIMESPANS);
+        final byte[] second = TimespanColumnCodec.encode(List.of(Timespan.of(START, END)));
+        final ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length).put(first).put(second).flip();
+
+        final TimespanColumnCodec.Decoder decoder = TimespanColumnCodec.decoder(buffer);
+        assertEquals(first.length, buffer.position());
+        assertEquals(TIMESPANS.size(), decoder.size());
+        for (final Timespan timespan : TIMESPANS) {
+            assertTrue(decoder.hasNext());
+            assertEquals(timespan, decoder.next());
+        }
+        assertFalse(decoder.hasNext());
+        assertThrows(NoSuchElementException.class, decoder::next);
+
+        assertEquals(List.of(Timespan.of(START, END)), TimespanColumnCodec.decodeAll(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    @DisplayName("truncated input is malformed")
+    void truncated() {
+        final byte[] bytes = TimespanColumnCodec.encode(TIMESPANS);
+        final ByteBuffer truncated = ByteBuffer.wrap(bytes, 0, bytes.length - 1);
+
+        assertThrows(IllegalArgumentException.class, () -> TimespanColumnCodec.decoder(truncated));
+    }
+
+    @Test
+    @DisplayName("a count which the columns cannot hold is malformed")
+    void impossibleCount() {
+        final ByteBuffer bytes = ByteBuffer.wrap(TimespanColumnCodec.encode(TIMESPANS));
+        bytes.putInt(0, Integer.MAX_VALUE);
+
+        assertThrows(IllegalArgumentException.class, () -> TimespanColumnCodec.decodeAll(bytes));
+        assertThrows(IllegalArgumentException.class, () -> TimespanColumnCodec.decoder(bytes.putInt(0, -1)));
+    }
+}
@@ -0,0 +1,123 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tracks a start-only {@link Timespan} per key, from when it is opened until it is closed into a finished timespan.
+ * <p>
+ * This class is thread-safe. Opening and closing use only the atomic {@code putIfAbsent} and
+ * {@code remove(key, value)} operations of a {@link ConcurrentHashMap}, which lock at most one bin,
+ * and never run a function while holding it. Timespans are created, and checked, outside the map.
+ * Opening a key which is already open only reads the map, and creates nothing.
+ *
+ * @param <K> the type of the keys
+ */
+public final class ActiveTimespanTracker<K> {
+
+    private final ConcurrentHashMap<K, Timespan> active;
+    private final Clock clock;
+
+    /**
+     * Creates a tracker which opens and closes timespans at the time of the system UTC clock.
+     */
+    public ActiveTimespanTracker() {
+        this(Clock.systemUTC());
+    }
+
+    public ActiveTimespanTracker(final Clock clock) {
+        this(clock, 16);
+    }
+
+    /**
+     * @param clock            the clock to open and close timespans at, when no instant is given
+     * @param expectedCapacity the number of timespans expected to be open at once, to size the map for
+     */
+    public ActiveTimespanTracker(final Clock clock, final int expectedCapacity) {
+        this.clock = requireNonNull(clock, "clock must not be null");
+        this.active = new ConcurrentHashMap<>(expectedCapacity);
+    }
+
+    /**
+     * Opens a timespan for a key starting now, unless it already has one.
+     *
+     * @return true if a timespan was opened, false if the key already had an open timespan
+     */
+    public boolean open(final K key) {
+        requireNonNull(key, "key must not be null");
+        return !active.containsKey(key) && open(key, clock.instant());
+    }
+
+    /**
+     * Opens a timespan for a key starting at an instant, unless it already has one.
+     *
+     * @return true if a timespan was opened, false if the key already had an open timespan
+     */
+    public boolean open(final K key, final Instant start) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(start, "start must not be null");
+        return !active.containsKey(key) && active.putIfAbsent(key, Timespan.starting(start)) == null;
+    }
+
+    /**
+     * Closes the open timespan of a key now.
+     *
+     * @return the finished timespan, or empty if the key had no open timespan
+     */
+    public Optional<Timespan> close(final K key) {
+        return close(key, clock.instant());
+    }
+
+    /**
+     * Closes the open timespan of a key at an instant.
+     *
+     * @return the finished timespan, or empty if the key had no open timespan
+     * @throws java.time.DateTimeException if the end is before the start of the open timespan, which stays open
+     */
+    public Optional<Timespan> close(final K key, final Instant end) {
+        requireNonNull(key, "key must not be null");
+        requireNonNull(end, "end must not be null");
+        Timespan open;
+        while ((open = active.get(key)) != null) {
+            final Timespan closed = open.to(end);
+            if (active.remove(key, open)) {
+                return Optional.of(closed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return the open timespan of a key, or empty if it has none
+     */
+    public Optional<Timespan> get(final K key) {
+        requireNonNull(key, "key must not be null");
+        return Optional.ofNullable(active.get(key));
+    }
+
+    public boolean isOpen(final K key) {
+        requireNonNull(key, "key must not be null");
+        return active.containsKey(key);
+    }
+
+    /**
+     * @return the number of open timespans, which may be out of date if other threads are opening or closing them
+     */
+    public int size() {
+        return active.size();
+    }
+
+    /**
+     * @return a copy of the open timespans, which is weakly consistent with concurrent opening and closing
+     */
+    public Map<K, Timespan> snapshot() {
+        return Map.copyOf(active);
+    }
+}
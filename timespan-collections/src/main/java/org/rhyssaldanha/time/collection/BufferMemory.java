@@ -0,0 +1,64 @@
+package org.rhyssaldanha.time.collection;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Native-order memory outside the Java heap, addressed by a {@code long} byte offset, for {@link TimespanBuffer}.
+ * <p>
+ * A single {@code ByteBuffer} is limited to 2GB, so the memory is split across direct buffers of
+ * {@value #CHUNK_BYTES} bytes. The buffers are freed by the garbage collector once this memory is unreachable,
+ * {@link #close()} only stops further access.
+ * <p>
+ * On Java 22 and later this class is replaced, through the multi-release JAR, by one which allocates a single
+ * {@code MemorySegment} from an {@code Arena}, and frees it as soon as it is closed.
+ */
+final class BufferMemory {
+
+    static final int CHUNK_BYTES = 1 << 29;
+
+    private static final int CHUNK_SHIFT = 29;
+    private static final long CHUNK_MASK = CHUNK_BYTES - 1;
+
+    private ByteBuffer[] chunks;
+
+    BufferMemory(final long bytes) {
+        final ByteBuffer[] chunks = new ByteBuffer[(int) ((bytes + CHUNK_MASK) >>> CHUNK_SHIFT)];
+        for (int i = 0; i < chunks.length; i++) {
+            final long chunkBytes = Math.min(CHUNK_BYTES, bytes - ((long) i << CHUNK_SHIFT));
+            chunks[i] = ByteBuffer.allocateDirect((int) chunkBytes).order(ByteOrder.nativeOrder());
+        }
+        this.chunks = chunks;
+    }
+
+    long getLong(final long offset) {
+        return chunk(offset).getLong((int) (offset & CHUNK_MASK));
+    }
+
+    int getInt(final long offset) {
+        return chunk(offset).getInt((int) (offset & CHUNK_MASK));
+    }
+
+    void putLong(final long offset, final long value) {
+        chunk(offset).putLong((int) (offset & CHUNK_MASK), value);
+    }
+
+    void putInt(final long offset, final int value) {
+        chunk(offset).putInt((int) (offset & CHUNK_MASK), value);
+    }
+
+    void close() {
+        chunks = null;
+    }
+
+    /**
+     * Values are only read and written at offsets aligned to their size, so a value never spans two chunks.
+     */
+    private ByteBuffer chunk(final long offset) {
+        final ByteBuffer[] chunks = this.chunks;
+        if (chunks == null) {
+            throw new IllegalStateException("buffer is closed");
+        }
+        return chunks[(int) (offset >>> CHUNK_SHIFT)];
+    }
+}
@@ -0,0 +1,332 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Joins two lists of keyed {@link Timespan}s, finding every pair of timespans which
+ * {@linkplain Timespan#overlaps(Timespan) overlap}.
+ * <p>
+ * Both lists must be sorted by start. They are merged in a single sweep, which keeps the timespans
+ * of each side that have started but not yet ended; each timespan is paired with the active timespans
+ * of the other side as it starts. The sweep takes O(n + m + k) time for k overlapping pairs, plus the
+ * cost of expiring ended timespans.
+ * <p>
+ * The parallel join splits the time-line into partitions at starts of the left list. A timespan is copied
+ * into every partition it reaches, and each pair is emitted only by the partition containing the start of
+ * its intersection, so every pair is emitted exactly once.
+ */
+public final class IntervalJoin {
+
+    /**
+     * Receives each overlapping pair of a join, with the intersection of their timespans.
+     */
+    @FunctionalInterface
+    public interface PairConsumer<L, R> {
+        void accept(L left, R right, Timespan intersection);
+    }
+
+    private IntervalJoin() {
+    }
+
+    /**
+     * Emits every overlapping pair of timespans, in order of the start of their intersection.
+     *
+     * @throws IllegalArgumentException if either list is not sorted by start
+     */
+    public static <L, R> void join(final List<? extends Map.Entry<L, Timespan>> left,
+                                   final List<? extends Map.Entry<R, Timespan>> right,
+                                   final PairConsumer<? super L, ? super R> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        final Side<L> leftSide = new Side<>(requireNonNull(left, "left must not be null"), "left");
+        final Side<R> rightSide = new Side<>(requireNonNull(right, "right must not be null"), "right");
+        sweep(leftSide, leftSide.all(), rightSide, rightSide.all(), Long.MIN_VALUE, 0, consumer);
+    }
+
+    /**
+     * Emits every overlapping pair of timespans, joining partitions of the time-line in parallel
+     * in the common fork/join pool. The consumer must be thread-safe, and pairs are emitted in no particular order.
+     *
+     * @param partitions the number of partitions to split the time-line into
+     * @throws IllegalArgumentException if either list is not sorted by start, or partitions is not positive
+     */
+    public static <L, R> void parallelJoin(final List<? extends Map.Entry<L, Timespan>> left,
+                                           final List<? extends Map.Entry<R, Timespan>> right,
+                                           final int partitions,
+                                           final PairConsumer<? super L, ? super R> consumer) {
+        requireNonNull(consumer, "consumer must not be null");
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be positive");
+        }
+        final Side<L> leftSide = new Side<>(requireNonNull(left, "left must not be null"), "left");
+        final Side<R> rightSide = new Side<>(requireNonNull(right, "right must not be null"), "right");
+
+        final int boundaryCount = Math.min(partitions, Math.max(leftSide.size(), 1)) - 1;
+        final long[] boundarySeconds = new long[boundaryCount];
+        final int[] boundaryNanos = new int[boundaryCount];
+        for (int i = 0; i < boundaryCount; i++) {
+            final int index = (int) ((long) (i + 1) * leftSide.size() / (boundaryCount + 1));
+            boundarySeconds[i] = leftSide.startSeconds[index];
+            boundaryNanos[i] = leftSide.startNanos[index];
+        }
+
+        final int[][] leftPartitions = leftSide.partition(boundarySeconds, boundaryNanos);
+        final int[][] rightPartitions = rightSide.partition(boundarySeconds, boundaryNanos);
+        new PartitionJoin<>(leftSide, leftPartitions, rightSide, rightPartitions,
+                boundarySeconds, boundaryNanos, consumer, 0, boundaryCount + 1).invoke();
+    }
+
+    /**
+     * Joins the given indices of each side, emitting only pairs whose intersection starts at or after a bound.
+     */
+    private static <L, R> void sweep(final Side<L> left, final int[] leftIndices,
+                                     final Side<R> right, final int[] rightIndices,
+                                     final long fromSecond, final int fromNano,
+                                     final PairConsumer<? super L, ? super R> consumer) {
+        final ActiveList leftActive = new ActiveList();
+        final ActiveList rightActive = new ActiveList();
+        int i = 0;
+        int j = 0;
+        while (i < leftIndices.length && j < rightIndices.length) {
+            final int l = leftIndices[i];
+            final int r = rightIndices[j];
+            if (compare(left.startSeconds[l], left.startNanos[l], right.startSeconds[r], right.startNanos[r]) <= 0) {
+                rightActive.expire(right, left.startSeconds[l], left.startNanos[l]);
+                if (compare(left.startSeconds[l], left.startNanos[l], fromSecond, fromNano) >= 0) {
+                    for (int k = 0; k < rightActive.size; k++) {
+                        emit(left, l, right, rightActive.indices[k], consumer);
+                    }
+                }
+                leftActive.add(l);
+                i++;
+            } else {
+                leftActive.expire(left, right.startSeconds[r], right.startNanos[r]);
+                if (compare(right.startSeconds[r], right.startNanos[r], fromSecond, fromNano) >= 0) {
+                    for (int k = 0; k < leftActive.size; k++) {
+                        emit(left, leftActive.indices[k], right, r, consumer);
+                    }
+                }
+                rightActive.add(r);
+                j++;
+            }
+        }
+        for (; i < leftIndices.length; i++) {
+            final int l = leftIndices[i];
+            rightActive.expire(right, left.startSeconds[l], left.startNanos[l]);
+            if (compare(left.startSeconds[l], left.startNanos[l], fromSecond, fromNano) >= 0) {
+                for (int k = 0; k < rightActive.size; k++) {
+                    emit(left, l, right, rightActive.indices[k], consumer);
+                }
+            }
+        }
+        for (; j < rightIndices.length; j++) {
+            final int r = rightIndices[j];
+            leftActive.expire(left, right.startSeconds[r], right.startNanos[r]);
+            if (compare(right.startSeconds[r], right.startNanos[r], fromSecond, fromNano) >= 0) {
+                for (int k = 0; k < leftActive.size; k++) {
+                    emit(left, leftActive.indices[k], right, r, consumer);
+                }
+            }
+        }
+    }
+
+    private static <L, R> void emit(final Side<L> left, final int l, final Side<R> right, final int r,
+                                     final PairConsumer<? super L, ? super R> consumer) {
+        final boolean leftStartsLater = compare(left.startSeconds[l], left.startNanos[l], right.startSeconds[r], right.startNanos[r]) >= 0;
+        final long startSecond = leftStartsLater ? left.startSeconds[l] : right.startSeconds[r];
+        final int startNano = leftStartsLater ? left.startNanos[l] : right.startNanos[r];
+
+        final Timespan intersection;
+        if (left.timespans[l].isStartOnly() && right.timespans[r].isStartOnly()) {
+            intersection = Timespan.startingEpochSecond(startSecond, startNano);
+        } else if (compare(left.endSeconds[l], left.endNanos[l], right.endSeconds[r], right.endNanos[r]) <= 0) {
+            intersection = Timespan.ofEpochSecond(startSecond, startNano, left.endSeconds[l], left.endNanos[l]);
+        } else {
+            intersection = Timespan.ofEpochSecond(startSecond, startNano, right.endSeconds[r], right.endNanos[r]);
+        }
+        consumer.accept(left.keys[l], right.keys[r], intersection);
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * One input of a join, copied into primitive arrays. Zero length timespans overlap nothing and are dropped.
+     */
+    private static final class Side<K> {
+        private final K[] keys;
+        private final Timespan[] timespans;
+        private final long[] startSeconds;
+        private final int[] startNanos;
+        private final long[] endSeconds;
+        private final int[] endNanos;
+
+        @SuppressWarnings("unchecked")
+        Side(final List<? extends Map.Entry<K, Timespan>> entries, final String name) {
+            final int capacity = entries.size();
+            K[] keys = (K[]) new Object[capacity];
+            Timespan[] timespans = new Timespan[capacity];
+            int size = 0;
+            for (final Map.Entry<K, Timespan> entry : entries) {
+                final Timespan timespan = requireNonNull(requireNonNull(entry, name + " must not contain null").getValue(),
+                        name + " must not contain null timespans");
+                if (size > 0 && compare(timespan.startEpochSecond(), timespan.startNano(),
+                        timespans[size - 1].startEpochSecond(), timespans[size - 1].startNano()) < 0) {
+                    throw new IllegalArgumentException(name + " must be sorted by start");
+                }
+                if (compare(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano()) < 0) {
+                    keys[size] = entry.getKey();
+                    timespans[size] = timespan;
+                    size++;
+                }
+            }
+            this.keys = Arrays.copyOf(keys, size);
+            this.timespans = Arrays.copyOf(timespans, size);
+            this.startSeconds = new long[size];
+            this.startNanos = new int[size];
+            this.endSeconds = new long[size];
+            this.endNanos = new int[size];
+            for (int i = 0; i < size; i++) {
+                startSeconds[i] = this.timespans[i].startEpochSecond();
+                startNanos[i] = this.timespans[i].startNano();
+                endSeconds[i] = this.timespans[i].endEpochSecond();
+                endNanos[i] = this.timespans[i].endNano();
+            }
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        int[] all() {
+            final int[] indices = new int[size()];
+            Arrays.setAll(indices, i -> i);
+            return indices;
+        }
+
+        /**
+         * Lists, for each partition, the indices of the timespans which contain an instant in that partition.
+         */
+        int[][] partition(final long[] boundarySeconds, final int[] boundaryNanos) {
+            final int partitions = boundarySeconds.length + 1;
+            final int[] counts = new int[partitions];
+            final int[] firsts = new int[size()];
+            final int[] lasts = new int[size()];
+            for (int i = 0; i < size(); i++) {
+                firsts[i] = countBoundaries(boundarySeconds, boundaryNanos, startSeconds[i], startNanos[i], true);
+                lasts[i] = countBoundaries(boundarySeconds, boundaryNanos, endSeconds[i], endNanos[i], false);
+                for (int p = firsts[i]; p <= lasts[i]; p++) {
+                    counts[p]++;
+                }
+            }
+            final int[][] partitioned = new int[partitions][];
+            for (int p = 0; p < partitions; p++) {
+                partitioned[p] = new int[counts[p]];
+                counts[p] = 0;
+            }
+            for (int i = 0; i < size(); i++) {
+                for (int p = firsts[i]; p <= lasts[i]; p++) {
+                    partitioned[p][counts[p]++] = i;
+                }
+            }
+            return partitioned;
+        }
+
+        /**
+         * Counts the boundaries before, or at if inclusive, an instant.
+         */
+        private static int countBoundaries(final long[] boundarySeconds, final int[] boundaryNanos,
+                                           final long second, final int nano, final boolean inclusive) {
+            int lo = 0;
+            int hi = boundarySeconds.length;
+            while (lo < hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int cmp = compare(boundarySeconds[mid], boundaryNanos[mid], second, nano);
+                if (cmp < 0 || (inclusive && cmp == 0)) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+
+    /**
+     * Indices of the timespans of one side which have started, expired lazily as the sweep moves on.
+     */
+    private static final class ActiveList {
+        private int[] indices = new int[16];
+        private int size;
+
+        void add(final int index) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+            }
+            indices[size++] = index;
+        }
+
+        void expire(final Side<?> side, final long second, final int nano) {
+            int kept = 0;
+            for (int k = 0; k < size; k++) {
+                final int index = indices[k];
+                if (compare(side.endSeconds[index], side.endNanos[index], second, nano) > 0) {
+                    indices[kept++] = index;
+                }
+            }
+            size = kept;
+        }
+    }
+
+    private static final class PartitionJoin<L, R> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Side<L> left;
+        private final int[][] leftPartitions;
+        private final Side<R> right;
+        private final int[][] rightPartitions;
+        private final long[] boundarySeconds;
+        private final int[] boundaryNanos;
+        private final PairConsumer<? super L, ? super R> consumer;
+        private final int from;
+        private final int to;
+
+        PartitionJoin(final Side<L> left, final int[][] leftPartitions,
+                      final Side<R> right, final int[][] rightPartitions,
+                      final long[] boundarySeconds, final int[] boundaryNanos,
+                      final PairConsumer<? super L, ? super R> consumer, final int from, final int to) {
+            this.left = left;
+            this.leftPartitions = leftPartitions;
+            this.right = right;
+            this.rightPartitions = rightPartitions;
+            this.boundarySeconds = boundarySeconds;
+            this.boundaryNanos = boundaryNanos;
+            this.consumer = consumer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                final int mid = (from + to) >>> 1;
+                invokeAll(
+                        new PartitionJoin<>(left, leftPartitions, right, rightPartitions, boundarySeconds, boundaryNanos, consumer, from, mid),
+                        new PartitionJoin<>(left, leftPartitions, right, rightPartitions, boundarySeconds, boundaryNanos, consumer, mid, to));
+                return;
+            }
+            final long fromSecond = from == 0 ? Long.MIN_VALUE : boundarySeconds[from - 1];
+            final int fromNano = from == 0 ? 0 : boundaryNanos[from - 1];
+            sweep(left, leftPartitions[from], right, rightPartitions[from], fromSecond, fromNano, consumer);
+        }
+    }
+}
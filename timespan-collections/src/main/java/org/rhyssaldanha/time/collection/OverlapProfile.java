@@ -0,0 +1,223 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The number of {@link Timespan}s which contain each instant, as a step function over the time-line.
+ * <p>
+ * The profile is built with a sweep over the starts and ends of the timespans, sorted separately, so
+ * building it takes O(n log n) time. Timespans are start inclusive and end exclusive, so at an instant
+ * where one timespan ends and another starts, only the starting timespan is counted. Zero length
+ * timespans contain no instants and are ignored; start-only timespans are counted from their start onwards.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class OverlapProfile {
+
+    private static final Comparator<Timespan> BY_START = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano);
+    private static final Comparator<Timespan> BY_END = Comparator
+            .comparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    /* Depth before the first step is zero; depths[i] applies from step i until step i + 1 */
+    private final long[] seconds;
+    private final int[] nanos;
+    private final int[] depths;
+    private final int maxDepth;
+
+    public static OverlapProfile of(final Collection<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        return of(timespans.stream());
+    }
+
+    public static OverlapProfile of(final Stream<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        final Timespan[] byStart = timespans
+                .map(timespan -> requireNonNull(timespan, "timespans must not contain null"))
+                .filter(timespan -> timespan.isStartOnly()
+                        || timespan.startEpochSecond() != timespan.endEpochSecond()
+                        || timespan.startNano() != timespan.endNano())
+                .toArray(Timespan[]::new);
+        final Timespan[] byEnd = byStart.clone();
+        Arrays.sort(byStart, BY_START);
+        Arrays.sort(byEnd, BY_END);
+        return new OverlapProfile(byStart, byEnd);
+    }
+
+    private OverlapProfile(final Timespan[] byStart, final Timespan[] byEnd) {
+        final long[] stepSeconds = new long[byStart.length * 2];
+        final int[] stepNanos = new int[stepSeconds.length];
+        final int[] stepDepths = new int[stepSeconds.length];
+        int steps = 0;
+        int depth = 0;
+        int max = 0;
+        int starts = 0;
+        int ends = 0;
+
+        while (starts < byStart.length) {
+            final long second;
+            final int nano;
+            final Timespan nextStart = byStart[starts];
+            final Timespan nextEnd = byEnd[ends];
+            if (compare(nextEnd.endEpochSecond(), nextEnd.endNano(), nextStart.startEpochSecond(), nextStart.startNano()) <= 0) {
+                second = nextEnd.endEpochSecond();
+                nano = nextEnd.endNano();
+            } else {
+                second = nextStart.startEpochSecond();
+                nano = nextStart.startNano();
+            }
+            while (ends < byEnd.length && byEnd[ends].endEpochSecond() == second && byEnd[ends].endNano() == nano) {
+                depth--;
+                ends++;
+            }
+            while (starts < byStart.length && byStart[starts].startEpochSecond() == second && byStart[starts].startNano() == nano) {
+                depth++;
+                starts++;
+            }
+            steps = addStep(stepSeconds, stepNanos, stepDepths, steps, second, nano, depth);
+            max = Math.max(max, depth);
+        }
+        while (ends < byEnd.length && !byEnd[ends].isStartOnly()) {
+            final long second = byEnd[ends].endEpochSecond();
+            final int nano = byEnd[ends].endNano();
+            while (ends < byEnd.length && byEnd[ends].endEpochSecond() == second && byEnd[ends].endNano() == nano) {
+                depth--;
+                ends++;
+            }
+            steps = addStep(stepSeconds, stepNanos, stepDepths, steps, second, nano, depth);
+        }
+
+        this.seconds = Arrays.copyOf(stepSeconds, steps);
+        this.nanos = Arrays.copyOf(stepNanos, steps);
+        this.depths = Arrays.copyOf(stepDepths, steps);
+        this.maxDepth = max;
+    }
+
+    /**
+     * Adds a step, unless the depth is unchanged from the previous step.
+     *
+     * @return the number of steps
+     */
+    private static int addStep(final long[] seconds, final int[] nanos, final int[] depths, final int steps,
+                               final long second, final int nano, final int depth) {
+        if (depth == (steps == 0 ? 0 : depths[steps - 1])) {
+            return steps;
+        }
+        seconds[steps] = second;
+        nanos[steps] = nano;
+        depths[steps] = depth;
+        return steps + 1;
+    }
+
+    /**
+     * @return the greatest number of timespans which contain any one instant
+     */
+    public int maxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * @return the instants contained by {@link #maxDepth()} timespans, or an empty set if there are no timespans
+     */
+    public TimespanSet peaks() {
+        final List<Timespan> peaks = new ArrayList<>();
+        for (int i = 0; i < depths.length; i++) {
+            if (maxDepth > 0 && depths[i] == maxDepth) {
+                peaks.add(i + 1 == depths.length
+                        ? Timespan.startingEpochSecond(seconds[i], nanos[i])
+                        : Timespan.ofEpochSecond(seconds[i], nanos[i], seconds[i + 1], nanos[i + 1]));
+            }
+        }
+        return TimespanSet.of(peaks);
+    }
+
+    /**
+     * @return the number of timespans which contain an instant
+     */
+    public int depthAt(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        int lo = 0;
+        int hi = seconds.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (compare(seconds[mid], nanos[mid], instant.getEpochSecond(), instant.getNano()) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo == 0 ? 0 : depths[lo - 1];
+    }
+
+    /**
+     * @return every instant at which the depth changes, with the depth from that instant onwards
+     */
+    public List<Step> steps() {
+        final List<Step> steps = new ArrayList<>(depths.length);
+        for (int i = 0; i < depths.length; i++) {
+            steps.add(new Step(Instant.ofEpochSecond(seconds[i], nanos[i]), depths[i]));
+        }
+        return steps;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * A change in depth of an {@link OverlapProfile}.
+     */
+    public static final class Step {
+
+        private final Instant at;
+        private final int depth;
+
+        public Step(final Instant at, final int depth) {
+            this.at = requireNonNull(at, "at must not be null");
+            this.depth = depth;
+        }
+
+        public Instant at() {
+            return at;
+        }
+
+        public int depth() {
+            return depth;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            final Step step = (Step) o;
+            return depth == step.depth && at.equals(step.at);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(at, depth);
+        }
+
+        @Override
+        public String toString() {
+            return "Step{" +
+                    "at=" + at +
+                    ", depth=" + depth +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.TimespanBatchBuilder;
+
+import java.nio.BufferOverflowException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A fixed capacity, append-only store of {@link Timespan}s held outside the Java heap.
+ * <p>
+ * Each timespan is a fixed-width, native-order record:
+ * <pre>
+ * offset  0: start epoch second (long)
+ * offset  8: end epoch second   (long)
+ * offset 16: start nano         (int)
+ * offset 20: end nano           (int)
+ * offset 24: flags              (int, bit 0 set if start-only)
+ * offset 28: reserved           (int)
+ * </pre>
+ * On Java 11 to 21 the records are split across direct {@link java.nio.ByteBuffer}s, which are freed by the
+ * garbage collector. On Java 22 and later they are held in a single {@code MemorySegment}, which is freed
+ * as soon as the buffer is {@linkplain #close() closed}.
+ * <p>
+ * Records are read through primitive accessors, or through a reusable {@link View}, neither of which
+ * creates a {@code Timespan}. This class is not thread-safe for writes.
+ */
+public final class TimespanBuffer implements AutoCloseable {
+
+    /* Records are 32 bytes */
+    private static final int RECORD_SHIFT = 5;
+
+    private static final int START_SECONDS = 0;
+    private static final int END_SECONDS = 8;
+    private static final int START_NANOS = 16;
+    private static final int END_NANOS = 20;
+    private static final int FLAGS = 24;
+
+    private static final int START_ONLY = 1;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final long MIN_SECONDS = Instant.MIN.getEpochSecond();
+    private static final long MAX_SECONDS = Instant.MAX.getEpochSecond();
+
+    private final BufferMemory memory;
+    private final int capacity;
+    private int size;
+    private boolean closed;
+
+    public static TimespanBuffer allocate(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        return new TimespanBuffer(capacity);
+    }
+
+    private TimespanBuffer(final int capacity) {
+        this.capacity = capacity;
+        this.memory = new BufferMemory((long) capacity << RECORD_SHIFT);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public TimespanBuffer add(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        return put(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano(),
+                timespan.isStartOnly() ? START_ONLY : 0);
+    }
+
+    /**
+     * Appends a timespan from the epoch second and nano-of-second of its start and end.
+     *
+     * @throws DateTimeException       if either instant is invalid, or end is before start
+     * @throws BufferOverflowException if this buffer is full
+     */
+    public TimespanBuffer add(final long startEpochSecond, final int startNano,
+                              final long endEpochSecond, final int endNano) {
+        requireValidInstant(startEpochSecond, startNano);
+        requireValidInstant(endEpochSecond, endNano);
+        if (compare(endEpochSecond, endNano, startEpochSecond, startNano) < 0) {
+            throw new DateTimeException("end must not be before start");
+        }
+        return put(startEpochSecond, startNano, endEpochSecond, endNano, 0);
+    }
+
+    /**
+     * Appends a start-only timespan from the epoch second and nano-of-second of its start.
+     *
+     * @throws DateTimeException       if the start is invalid
+     * @throws BufferOverflowException if this buffer is full
+     */
+    public TimespanBuffer addStarting(final long startEpochSecond, final int startNano) {
+        requireValidInstant(startEpochSecond, startNano);
+        return put(startEpochSecond, startNano, Long.MAX_VALUE, 0, START_ONLY);
+    }
+
+    /**
+     * Appends every timespan of a validated batch, without checking them again.
+     *
+     * @throws BufferOverflowException if this buffer does not have space for the whole batch, in which case
+     *                                 nothing is appended
+     */
+    public TimespanBuffer addAll(final TimespanBatchBuilder batch) {
+        requireNonNull(batch, "batch must not be null");
+        if (batch.size() > capacity - size) {
+            throw new BufferOverflowException();
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            put(batch.startEpochSecond(i), batch.startNano(i), batch.endEpochSecond(i), batch.endNano(i),
+                    batch.isStartOnly(i) ? START_ONLY : 0);
+        }
+        return this;
+    }
+
+    private static void requireValidInstant(final long epochSecond, final int nano) {
+        if (nano < 0 || nano >= NANOS_PER_SECOND) {
+            throw new DateTimeException("nano must be between 0 and 999999999");
+        }
+        if (epochSecond < MIN_SECONDS || epochSecond > MAX_SECONDS) {
+            throw new DateTimeException("instant exceeds minimum or maximum instant");
+        }
+    }
+
+    private TimespanBuffer put(final long startSeconds, final int startNanos,
+                               final long endSeconds, final int endNanos, final int flags) {
+        if (size == capacity) {
+            throw new BufferOverflowException();
+        }
+        final long offset = (long) size << RECORD_SHIFT;
+        memory.putLong(offset + START_SECONDS, startSeconds);
+        memory.putLong(offset + END_SECONDS, endSeconds);
+        memory.putInt(offset + START_NANOS, startNanos);
+        memory.putInt(offset + END_NANOS, endNanos);
+        memory.putInt(offset + FLAGS, flags);
+        size++;
+        return this;
+    }
+
+    public long startEpochSecond(final int index) {
+        return memory.getLong(offset(index) + START_SECONDS);
+    }
+
+    public int startNano(final int index) {
+        return memory.getInt(offset(index) + START_NANOS);
+    }
+
+    /**
+     * @return the end epoch second, or {@link Long#MAX_VALUE} if the timespan is start-only
+     */
+    public long endEpochSecond(final int index) {
+        return memory.getLong(offset(index) + END_SECONDS);
+    }
+
+    /**
+     * @return the end nano-of-second, or zero if the timespan is start-only
+     */
+    public int endNano(final int index) {
+        return memory.getInt(offset(index) + END_NANOS);
+    }
+
+    public boolean isStartOnly(final int index) {
+        return (memory.getInt(offset(index) + FLAGS) & START_ONLY) != 0;
+    }
+
+    /**
+     * Checks if the timespan at an index contains the instant with the given epoch second and nano-of-second.
+     */
+    public boolean contains(final int index, final long epochSecond, final int nano) {
+        final long offset = offset(index);
+        return compare(epochSecond, nano, memory.getLong(offset + START_SECONDS), memory.getInt(offset + START_NANOS)) >= 0
+                && compare(epochSecond, nano, memory.getLong(offset + END_SECONDS), memory.getInt(offset + END_NANOS)) < 0;
+    }
+
+    /**
+     * Creates the timespan at an index.
+     */
+    public Timespan get(final int index) {
+        return isStartOnly(index)
+                ? Timespan.startingEpochSecond(startEpochSecond(index), startNano(index))
+                : Timespan.ofEpochSecond(startEpochSecond(index), startNano(index), endEpochSecond(index), endNano(index));
+    }
+
+    /**
+     * Creates a view which can be moved between the records of this buffer.
+     */
+    public View view() {
+        return new View();
+    }
+
+    /**
+     * Frees the memory of this buffer, straight away on Java 22 and later, or otherwise once it is garbage collected.
+     * Reading or adding timespans afterwards throws an {@link IllegalStateException}. Closing again has no effect.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            memory.close();
+        }
+    }
+
+    private long offset(final int index) {
+        Objects.checkIndex(index, size);
+        return (long) index << RECORD_SHIFT;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * A flyweight over one record of the buffer, with the same accessors as {@link Timespan}.
+     * <p>
+     * A view reads the buffer on every call, and is repositioned with {@link #moveTo(int)}, so one view can
+     * visit every record without creating any objects.
+     */
+    public final class View {
+
+        private int index = -1;
+
+        private View() {
+        }
+
+        public View moveTo(final int index) {
+            Objects.checkIndex(index, size);
+            this.index = index;
+            return this;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public Instant start() {
+            return Instant.ofEpochSecond(startEpochSecond(), startNano());
+        }
+
+        public Optional<Instant> end() {
+            return isStartOnly() ? Optional.empty() : Optional.of(Instant.ofEpochSecond(endEpochSecond(), endNano()));
+        }
+
+        public boolean isStartOnly() {
+            return TimespanBuffer.this.isStartOnly(index);
+        }
+
+        public long startEpochSecond() {
+            return TimespanBuffer.this.startEpochSecond(index);
+        }
+
+        public int startNano() {
+            return TimespanBuffer.this.startNano(index);
+        }
+
+        public long endEpochSecond() {
+            return TimespanBuffer.this.endEpochSecond(index);
+        }
+
+        public int endNano() {
+            return TimespanBuffer.this.endNano(index);
+        }
+
+        public boolean contains(final Instant instant) {
+            requireNonNull(instant, "instant must not be null");
+            return TimespanBuffer.this.contains(index, instant.getEpochSecond(), instant.getNano());
+        }
+
+        public boolean contains(final long epochSecond, final int nano) {
+            return TimespanBuffer.this.contains(index, epochSecond, nano);
+        }
+
+        public Timespan toTimespan() {
+            return get(index);
+        }
+    }
+}
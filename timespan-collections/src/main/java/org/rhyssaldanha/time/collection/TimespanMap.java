@@ -0,0 +1,246 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A mapping from non-overlapping {@link Timespan}s to values, looked up by instant.
+ * <p>
+ * Entries are kept sorted by start in primitive arrays, so {@link #get(Instant)} is a binary search
+ * which creates no objects. {@link #put(Timespan, Object)} replaces whatever was mapped in the timespan,
+ * trimming entries which partly overlap it, as {@link Timespan#to(Instant)} and {@link Timespan#from(Instant)}
+ * would, and merges entries which meet and have {@linkplain Object#equals(Object) equal} values.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <V> the type of the values
+ */
+public final class TimespanMap<V> {
+
+    private long[] startSeconds = new long[8];
+    private int[] startNanos = new int[8];
+    private long[] endSeconds = new long[8];
+    private int[] endNanos = new int[8];
+    private Object[] values = new Object[8];
+    private int size;
+
+    /**
+     * @return the number of entries, after merging
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return the value mapped at an instant, or null if there is none
+     */
+    public V get(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        return get(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * @return the value mapped at the instant with the given epoch second and nano-of-second, or null if there is none
+     */
+    @SuppressWarnings("unchecked")
+    public V get(final long epochSecond, final int nano) {
+        final int index = lastStartingAtOrBefore(epochSecond, nano);
+        if (index < 0 || compare(epochSecond, nano, endSeconds[index], endNanos[index]) >= 0) {
+            return null;
+        }
+        return (V) values[index];
+    }
+
+    /**
+     * Maps every instant of a timespan to a value, replacing any values already mapped in the timespan.
+     * Mapping a zero length timespan does nothing.
+     */
+    public void put(final Timespan timespan, final V value) {
+        requireNonNull(timespan, "timespan must not be null");
+        requireNonNull(value, "value must not be null");
+        replace(timespan, value);
+    }
+
+    /**
+     * Removes the values mapped to every instant of a timespan.
+     */
+    public void remove(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        replace(timespan, null);
+    }
+
+    public void clear() {
+        Arrays.fill(values, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * @return the entries, ordered by start
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map.Entry<Timespan, V>> entries() {
+        final List<Map.Entry<Timespan, V>> entries = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            entries.add(new AbstractMap.SimpleImmutableEntry<>(timespan(i), (V) values[i]));
+        }
+        return entries;
+    }
+
+    private Timespan timespan(final int index) {
+        return endSeconds[index] == Long.MAX_VALUE
+                ? Timespan.startingEpochSecond(startSeconds[index], startNanos[index])
+                : Timespan.ofEpochSecond(startSeconds[index], startNanos[index], endSeconds[index], endNanos[index]);
+    }
+
+    private void replace(final Timespan timespan, final Object value) {
+        final long startSecond = timespan.startEpochSecond();
+        final int startNano = timespan.startNano();
+        final long endSecond = timespan.endEpochSecond();
+        final int endNano = timespan.endNano();
+        if (compare(startSecond, startNano, endSecond, endNano) == 0) {
+            return;
+        }
+
+        final int first = firstEndingAfter(startSecond, startNano);
+        final int last = lastStartingBefore(endSecond, endNano);
+        final boolean keepLeft = first <= last && compare(startSeconds[first], startNanos[first], startSecond, startNano) < 0;
+        final boolean keepRight = first <= last && compare(endSeconds[last], endNanos[last], endSecond, endNano) > 0;
+
+        final long rightEndSecond = keepRight ? endSeconds[last] : 0;
+        final int rightEndNano = keepRight ? endNanos[last] : 0;
+        final Object rightValue = keepRight ? values[last] : null;
+
+        int index = first;
+        final int replacements = (keepLeft ? 1 : 0) + (value != null ? 1 : 0) + (keepRight ? 1 : 0);
+        splice(first, Math.max(last - first + 1, 0), replacements);
+        if (keepLeft) {
+            endSeconds[index] = startSecond;
+            endNanos[index] = startNano;
+            index++;
+        }
+        if (value != null) {
+            set(index++, startSecond, startNano, endSecond, endNano, value);
+        }
+        if (keepRight) {
+            set(index++, endSecond, endNano, rightEndSecond, rightEndNano, rightValue);
+        }
+
+        for (int i = Math.min(index, size - 1); i >= Math.max(first, 1); i--) {
+            mergeWithPrevious(i);
+        }
+    }
+
+    /**
+     * Replaces {@code count} entries from an index with {@code replacements} entries, whose fields are
+     * left to the caller. An entry kept on the left keeps its start and value.
+     */
+    private void splice(final int index, final int count, final int replacements) {
+        final int newSize = size - count + replacements;
+        if (newSize > startSeconds.length) {
+            final int capacity = Math.max(newSize, startSeconds.length * 2);
+            startSeconds = Arrays.copyOf(startSeconds, capacity);
+            startNanos = Arrays.copyOf(startNanos, capacity);
+            endSeconds = Arrays.copyOf(endSeconds, capacity);
+            endNanos = Arrays.copyOf(endNanos, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        final int tail = size - index - count;
+        final int from = index + count;
+        final int to = index + replacements;
+        System.arraycopy(startSeconds, from, startSeconds, to, tail);
+        System.arraycopy(startNanos, from, startNanos, to, tail);
+        System.arraycopy(endSeconds, from, endSeconds, to, tail);
+        System.arraycopy(endNanos, from, endNanos, to, tail);
+        System.arraycopy(values, from, values, to, tail);
+        Arrays.fill(values, newSize, Math.max(size, newSize), null);
+        size = newSize;
+    }
+
+    private void set(final int index, final long startSecond, final int startNano,
+                     final long endSecond, final int endNano, final Object value) {
+        startSeconds[index] = startSecond;
+        startNanos[index] = startNano;
+        endSeconds[index] = endSecond;
+        endNanos[index] = endNano;
+        values[index] = value;
+    }
+
+    /**
+     * Merges an entry into the entry before it, if they meet and have equal values.
+     */
+    private void mergeWithPrevious(final int index) {
+        final int previous = index - 1;
+        if (endSeconds[previous] == startSeconds[index] && endNanos[previous] == startNanos[index]
+                && values[previous].equals(values[index])) {
+            final long endSecond = endSeconds[index];
+            final int endNano = endNanos[index];
+            splice(index, 1, 0);
+            endSeconds[previous] = endSecond;
+            endNanos[previous] = endNano;
+        }
+    }
+
+    private int lastStartingAtOrBefore(final long second, final int nano) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], second, nano) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    private int lastStartingBefore(final long second, final int nano) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (compare(startSeconds[mid], startNanos[mid], second, nano) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    private int firstEndingAfter(final long second, final int nano) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (compare(endSeconds[mid], endNanos[mid], second, nano) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "TimespanMap" + entries();
+    }
+}
@@ -0,0 +1,215 @@
+package org.rhyssaldanha.time.collection;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable set of instants, stored as sorted, disjoint and coalesced {@link Timespan}s.
+ * <p>
+ * Timespans which overlap or meet are merged, and zero length timespans are dropped, so every set of
+ * instants has exactly one representation. The boundaries of the timespans are held in primitive arrays,
+ * alternating start and end; a start-only timespan ends at {@link Long#MAX_VALUE} epoch seconds, as
+ * reported by {@link Timespan#endEpochSecond()}.
+ * <p>
+ * Set operations are linear merges of the boundaries of both sets, and membership is a binary search.
+ * <p>
+ * This is a value-based class; the {@code equals} method should be used for comparisons.
+ */
+public final class TimespanSet {
+
+    private static final Comparator<Timespan> BY_START = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano);
+
+    private static final TimespanSet EMPTY = new TimespanSet(new long[0], new int[0]);
+    private static final TimespanSet ALL = of(Timespan.starting(Instant.MIN));
+
+    /* Truth tables indexed by (inThis ? 2 : 0) | (inOther ? 1 : 0) */
+    private static final int UNION = 0b1110;
+    private static final int INTERSECTION = 0b1000;
+    private static final int DIFFERENCE = 0b0100;
+
+    private final long[] seconds;
+    private final int[] nanos;
+
+    public static TimespanSet empty() {
+        return EMPTY;
+    }
+
+    public static TimespanSet of(final Timespan... timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        return of(Arrays.asList(timespans));
+    }
+
+    public static TimespanSet of(final Collection<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        final Timespan[] sorted = timespans.toArray(new Timespan[0]);
+        for (final Timespan timespan : sorted) {
+            requireNonNull(timespan, "timespans must not contain null");
+        }
+        Arrays.sort(sorted, BY_START);
+
+        final long[] seconds = new long[sorted.length * 2];
+        final int[] nanos = new int[sorted.length * 2];
+        int size = 0;
+        for (final Timespan timespan : sorted) {
+            if (compare(timespan.endEpochSecond(), timespan.endNano(), timespan.startEpochSecond(), timespan.startNano()) == 0) {
+                continue;
+            }
+            if (size > 0 && compare(timespan.startEpochSecond(), timespan.startNano(), seconds[size - 1], nanos[size - 1]) <= 0) {
+                if (compare(timespan.endEpochSecond(), timespan.endNano(), seconds[size - 1], nanos[size - 1]) > 0) {
+                    seconds[size - 1] = timespan.endEpochSecond();
+                    nanos[size - 1] = timespan.endNano();
+                }
+                continue;
+            }
+            seconds[size] = timespan.startEpochSecond();
+            nanos[size] = timespan.startNano();
+            seconds[size + 1] = timespan.endEpochSecond();
+            nanos[size + 1] = timespan.endNano();
+            size += 2;
+        }
+        return size == 0 ? EMPTY : new TimespanSet(Arrays.copyOf(seconds, size), Arrays.copyOf(nanos, size));
+    }
+
+    private TimespanSet(final long[] seconds, final int[] nanos) {
+        this.seconds = seconds;
+        this.nanos = nanos;
+    }
+
+    public boolean isEmpty() {
+        return seconds.length == 0;
+    }
+
+    /**
+     * @return the number of disjoint timespans in this set
+     */
+    public int size() {
+        return seconds.length / 2;
+    }
+
+    /**
+     * @return the disjoint timespans of this set, ordered by start
+     */
+    public List<Timespan> timespans() {
+        final List<Timespan> timespans = new ArrayList<>(size());
+        for (int i = 0; i < seconds.length; i += 2) {
+            timespans.add(seconds[i + 1] == Long.MAX_VALUE
+                    ? Timespan.startingEpochSecond(seconds[i], nanos[i])
+                    : Timespan.ofEpochSecond(seconds[i], nanos[i], seconds[i + 1], nanos[i + 1]));
+        }
+        return timespans;
+    }
+
+    public boolean contains(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        return (boundariesAtOrBefore(instant.getEpochSecond(), instant.getNano()) & 1) == 1;
+    }
+
+    /**
+     * Counts the boundaries at or before an instant. An odd count means the instant is
+     * after the start, and before the end, of one of the timespans.
+     */
+    private int boundariesAtOrBefore(final long second, final int nano) {
+        int lo = 0;
+        int hi = seconds.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (compare(seconds[mid], nanos[mid], second, nano) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public TimespanSet union(final TimespanSet other) {
+        requireNonNull(other, "other must not be null");
+        return merge(other, UNION);
+    }
+
+    public TimespanSet intersection(final TimespanSet other) {
+        requireNonNull(other, "other must not be null");
+        return merge(other, INTERSECTION);
+    }
+
+    public TimespanSet difference(final TimespanSet other) {
+        requireNonNull(other, "other must not be null");
+        return merge(other, DIFFERENCE);
+    }
+
+    /**
+     * @return the instants, from {@link Instant#MIN} onwards, which are not in this set
+     */
+    public TimespanSet complement() {
+        return ALL.difference(this);
+    }
+
+    private TimespanSet merge(final TimespanSet other, final int truthTable) {
+        final long[] mergedSeconds = new long[seconds.length + other.seconds.length];
+        final int[] mergedNanos = new int[mergedSeconds.length];
+        int size = 0;
+        int i = 0;
+        int j = 0;
+        boolean in = false;
+        while (i < seconds.length || j < other.seconds.length) {
+            final long second;
+            final int nano;
+            if (j == other.seconds.length
+                    || (i < seconds.length && compare(seconds[i], nanos[i], other.seconds[j], other.nanos[j]) <= 0)) {
+                second = seconds[i];
+                nano = nanos[i];
+            } else {
+                second = other.seconds[j];
+                nano = other.nanos[j];
+            }
+            while (i < seconds.length && seconds[i] == second && nanos[i] == nano) {
+                i++;
+            }
+            while (j < other.seconds.length && other.seconds[j] == second && other.nanos[j] == nano) {
+                j++;
+            }
+
+            final boolean merged = ((truthTable >>> (((i & 1) << 1) | (j & 1))) & 1) == 1;
+            if (merged != in) {
+                mergedSeconds[size] = second;
+                mergedNanos[size] = nano;
+                size++;
+                in = merged;
+            }
+        }
+        return size == 0 ? EMPTY : new TimespanSet(Arrays.copyOf(mergedSeconds, size), Arrays.copyOf(mergedNanos, size));
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final TimespanSet that = (TimespanSet) o;
+        return Arrays.equals(seconds, that.seconds) && Arrays.equals(nanos, that.nanos);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(seconds) + Arrays.hashCode(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "TimespanSet" + timespans();
+    }
+}
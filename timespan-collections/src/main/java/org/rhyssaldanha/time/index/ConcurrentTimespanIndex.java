@@ -0,0 +1,270 @@
+package org.rhyssaldanha.time.index;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A thread-safe index of {@link Timespan}s for read-mostly workloads.
+ * <p>
+ * The timespans are held in an immutable {@link TimespanIntervalTree}, with the writes made since the tree was
+ * built held in small, immutable, sorted arrays of pending additions and removals. Each write replaces the arrays,
+ * and once more than {@value #MAX_PENDING} changes are pending, merges them into a new tree in linear time, so
+ * writes neither re-sort the timespans nor rebuild the tree every time.
+ * <p>
+ * The tree and the pending arrays are published together under a {@link StampedLock}. Queries read all three
+ * with an optimistic read, which acquires no lock, and only take a read lock if a writer published at the same
+ * moment. The query itself then runs against immutable data, so readers never block each other and never wait
+ * on a writer merging a tree. Writers are serialised with each other.
+ */
+public final class ConcurrentTimespanIndex {
+
+    static final int MAX_PENDING = 64;
+
+    private static final Timespan[] NONE = new Timespan[0];
+    private static final Comparator<Timespan> BY_START_THEN_END = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano)
+            .thenComparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private final StampedLock lock = new StampedLock();
+    private final Object writer = new Object();
+    private TimespanIntervalTree tree;
+    private Timespan[] added = NONE;
+    private Timespan[] removed = NONE;
+
+    public ConcurrentTimespanIndex() {
+        this(List.of());
+    }
+
+    public ConcurrentTimespanIndex(final Collection<Timespan> timespans) {
+        this.tree = TimespanIntervalTree.of(timespans);
+    }
+
+    /**
+     * Runs a query against a consistent view of the tree and the pending changes.
+     */
+    private <R> R read(final Query<R> query) {
+        final long stamp = lock.tryOptimisticRead();
+        TimespanIntervalTree currentTree = tree;
+        Timespan[] currentAdded = added;
+        Timespan[] currentRemoved = removed;
+        if (!lock.validate(stamp)) {
+            final long readStamp = lock.readLock();
+            try {
+                currentTree = tree;
+                currentAdded = added;
+                currentRemoved = removed;
+            } finally {
+                lock.unlockRead(readStamp);
+            }
+        }
+        return query.apply(currentTree, currentAdded, currentRemoved);
+    }
+
+    private interface Query<R> {
+        R apply(TimespanIntervalTree tree, Timespan[] added, Timespan[] removed);
+    }
+
+    /**
+     * @return a tree of the timespans in the index at this moment, which later writes do not change. If changes
+     * are pending, they are merged into a new tree.
+     */
+    public TimespanIntervalTree snapshot() {
+        return read((tree, added, removed) -> added.length == 0 && removed.length == 0
+                ? tree
+                : merge(tree, Arrays.asList(added), Arrays.asList(removed)));
+    }
+
+    public int size() {
+        return read((tree, added, removed) -> tree.size() + added.length - removed.length);
+    }
+
+    /**
+     * @see TimespanIntervalTree#containing(Instant)
+     */
+    public List<Timespan> containing(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        return read((tree, added, removed) ->
+                withPending(tree.containing(instant), added, removed, timespan -> timespan.contains(instant)));
+    }
+
+    /**
+     * @see TimespanIntervalTree#overlapping(Timespan)
+     */
+    public List<Timespan> overlapping(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        return read((tree, added, removed) ->
+                withPending(tree.overlapping(timespan), added, removed, other -> other.overlaps(timespan)));
+    }
+
+    /**
+     * Applies pending changes to the timespans a query found in the tree.
+     */
+    private static List<Timespan> withPending(final List<Timespan> found, final Timespan[] added,
+                                              final Timespan[] removed, final Predicate<Timespan> matches) {
+        for (final Timespan timespan : removed) {
+            if (matches.test(timespan)) {
+                found.remove(timespan);
+            }
+        }
+        boolean unsorted = false;
+        for (final Timespan timespan : added) {
+            if (matches.test(timespan)) {
+                found.add(timespan);
+                unsorted = true;
+            }
+        }
+        if (unsorted) {
+            found.sort(BY_START_THEN_END);
+        }
+        return found;
+    }
+
+    public void add(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        update(List.of(timespan), List.of());
+    }
+
+    public void addAll(final Collection<Timespan> timespans) {
+        update(timespans, List.of());
+    }
+
+    /**
+     * Removes one occurrence of a timespan.
+     *
+     * @return true if the index contained the timespan
+     */
+    public boolean remove(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        synchronized (writer) {
+            final int size = tree.size() + added.length - removed.length;
+            update(List.of(), List.of(timespan));
+            return tree.size() + added.length - removed.length < size;
+        }
+    }
+
+    /**
+     * Removes one occurrence of each timespan, ignoring timespans which the index does not contain.
+     */
+    public void removeAll(final Collection<Timespan> timespans) {
+        update(List.of(), timespans);
+    }
+
+    /**
+     * Adds and removes timespans in a single write, which queries see all at once.
+     * Each removal removes one occurrence of a timespan, after the additions are made.
+     *
+     * @param additions the timespans to add
+     * @param removals  the timespans to remove
+     */
+    public void update(final Collection<Timespan> additions, final Collection<Timespan> removals) {
+        requireNonNull(additions, "additions must not be null");
+        requireNonNull(removals, "removals must not be null");
+        final Timespan[] adding = additions.toArray(NONE);
+        for (final Timespan addition : adding) {
+            requireNonNull(addition, "additions must not contain null");
+        }
+        final Timespan[] removing = removals.toArray(NONE);
+        for (final Timespan removal : removing) {
+            requireNonNull(removal, "removals must not contain null");
+        }
+        synchronized (writer) {
+            final List<Timespan> nextAdded = new ArrayList<>(added.length + adding.length);
+            nextAdded.addAll(Arrays.asList(added));
+            nextAdded.addAll(Arrays.asList(adding));
+            nextAdded.sort(BY_START_THEN_END);
+            final List<Timespan> nextRemoved = new ArrayList<>(Arrays.asList(removed));
+            for (final Timespan removal : removing) {
+                final int addedIndex = lowerBound(nextAdded, removal);
+                if (addedIndex < nextAdded.size() && nextAdded.get(addedIndex).equals(removal)) {
+                    nextAdded.remove(addedIndex);
+                    continue;
+                }
+                final int removedIndex = lowerBound(nextRemoved, removal);
+                if (tree.count(removal) > occurrences(nextRemoved, removedIndex, removal)) {
+                    nextRemoved.add(removedIndex, removal);
+                }
+            }
+
+            if (nextAdded.size() + nextRemoved.size() > MAX_PENDING) {
+                publish(merge(tree, nextAdded, nextRemoved), NONE, NONE);
+            } else {
+                publish(tree, nextAdded.toArray(NONE), nextRemoved.toArray(NONE));
+            }
+        }
+    }
+
+    private void publish(final TimespanIntervalTree nextTree, final Timespan[] nextAdded, final Timespan[] nextRemoved) {
+        final long stamp = lock.writeLock();
+        try {
+            tree = nextTree;
+            added = nextAdded;
+            removed = nextRemoved;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * @return the index of the first timespan which is not before a timespan, in a sorted list
+     */
+    private static int lowerBound(final List<Timespan> sorted, final Timespan timespan) {
+        int lo = 0;
+        int hi = sorted.size();
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (BY_START_THEN_END.compare(sorted.get(mid), timespan) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private static int occurrences(final List<Timespan> sorted, final int from, final Timespan timespan) {
+        int count = 0;
+        for (int i = from; i < sorted.size() && sorted.get(i).equals(timespan); i++) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Merges sorted additions into the sorted timespans of a tree, skipping one occurrence of each sorted removal,
+     * every one of which the tree contains.
+     */
+    private static TimespanIntervalTree merge(final TimespanIntervalTree tree, final List<Timespan> additions,
+                                              final List<Timespan> removals) {
+        final List<Timespan> base = tree.timespans();
+        final Timespan[] merged = new Timespan[base.size() + additions.size() - removals.size()];
+        int b = 0;
+        int a = 0;
+        int r = 0;
+        int m = 0;
+        while (b < base.size() || a < additions.size()) {
+            if (a == additions.size() || b < base.size() && BY_START_THEN_END.compare(base.get(b), additions.get(a)) <= 0) {
+                final Timespan next = base.get(b++);
+                if (r < removals.size() && removals.get(r).equals(next)) {
+                    r++;
+                } else {
+                    merged[m++] = next;
+                }
+            } else {
+                merged[m++] = additions.get(a++);
+            }
+        }
+        return TimespanIntervalTree.ofSorted(merged);
+    }
+}
@@ -0,0 +1,53 @@
+package org.rhyssaldanha.time.index;
+
+/**
+ * Scans packed timespans one at a time, building each word of the mask without branches.
+ */
+final class ScalarTimespanScan {
+
+    private ScalarTimespanScan() {
+    }
+
+    static int containing(final long[] starts, final long[] ends, final long instant, final long[] mask) {
+        final int size = starts.length;
+        final int words = words(size);
+        int count = 0;
+        for (int word = 0; word < words; word++) {
+            final int first = word << 6;
+            final int last = (int) Math.min(first + (long) Long.SIZE, size);
+            long bits = 0;
+            for (int i = first; i < last; i++) {
+                bits |= (starts[i] <= instant & instant < ends[i] ? 1L : 0L) << i;
+            }
+            mask[word] = bits;
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    static int overlapping(final long[] starts, final long[] ends, final long from, final long to, final long[] mask) {
+        final int size = starts.length;
+        final int words = words(size);
+        int count = 0;
+        for (int word = 0; word < words; word++) {
+            final int first = word << 6;
+            final int last = (int) Math.min(first + (long) Long.SIZE, size);
+            long bits = 0;
+            for (int i = first; i < last; i++) {
+                final long start = starts[i];
+                final long end = ends[i];
+                bits |= (start < to & from < end & start < end ? 1L : 0L) << i;
+            }
+            mask[word] = bits;
+            count += Long.bitCount(bits);
+        }
+        return count;
+    }
+
+    /**
+     * @return the number of words in a mask of {@code size} bits
+     */
+    static int words(final int size) {
+        return (int) (((long) size + Long.SIZE - 1) >>> 6);
+    }
+}
@@ -0,0 +1,21 @@
+package org.rhyssaldanha.time.index;
+
+/**
+ * Chooses how {@link TimespanScan} compares timespans. The arguments have already been checked.
+ * <p>
+ * On Java 21 and later this class is replaced, through the multi-release JAR, by one which uses the Vector API
+ * when it is available.
+ */
+final class ScanKernel {
+
+    private ScanKernel() {
+    }
+
+    static int containing(final long[] starts, final long[] ends, final long instant, final long[] mask) {
+        return ScalarTimespanScan.containing(starts, ends, instant, mask);
+    }
+
+    static int overlapping(final long[] starts, final long[] ends, final long from, final long to, final long[] mask) {
+        return ScalarTimespanScan.overlapping(starts, ends, from, to, mask);
+    }
+}
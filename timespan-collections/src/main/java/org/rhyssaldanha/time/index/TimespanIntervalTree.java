@@ -0,0 +1,207 @@
+package org.rhyssaldanha.time.index;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable augmented interval tree of {@link Timespan}s.
+ * <p>
+ * Timespans are sorted by start, then end, and laid out as an implicit balanced binary search tree
+ * over primitive arrays. Each node also records the latest end in its subtree, so a query can skip
+ * every subtree which ends before the queried instant. Start-only timespans end after every instant,
+ * and are found by every query at or after their start.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class TimespanIntervalTree {
+
+    private static final Comparator<Timespan> BY_START_THEN_END = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano)
+            .thenComparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private final Timespan[] timespans;
+    private final long[] startSeconds;
+    private final int[] startNanos;
+    private final long[] endSeconds;
+    private final int[] endNanos;
+    private final long[] maxEndSeconds;
+    private final int[] maxEndNanos;
+
+    public static TimespanIntervalTree of(final Collection<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        final Timespan[] sorted = timespans.toArray(new Timespan[0]);
+        for (final Timespan timespan : sorted) {
+            requireNonNull(timespan, "timespans must not contain null");
+        }
+        Arrays.sort(sorted, BY_START_THEN_END);
+        return new TimespanIntervalTree(sorted);
+    }
+
+    /**
+     * @param sorted timespans already ordered by start then end, which the tree takes ownership of
+     */
+    static TimespanIntervalTree ofSorted(final Timespan[] sorted) {
+        return new TimespanIntervalTree(sorted);
+    }
+
+    private TimespanIntervalTree(final Timespan[] timespans) {
+        final int size = timespans.length;
+        this.timespans = timespans;
+        this.startSeconds = new long[size];
+        this.startNanos = new int[size];
+        this.endSeconds = new long[size];
+        this.endNanos = new int[size];
+        this.maxEndSeconds = new long[size];
+        this.maxEndNanos = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            startSeconds[i] = timespans[i].startEpochSecond();
+            startNanos[i] = timespans[i].startNano();
+            endSeconds[i] = timespans[i].endEpochSecond();
+            endNanos[i] = timespans[i].endNano();
+        }
+        augment(0, size);
+    }
+
+    /**
+     * Records the latest end of each subtree in {@code [lo, hi)} at the subtree's root.
+     *
+     * @return the root of the subtree, or -1 if it is empty
+     */
+    private int augment(final int lo, final int hi) {
+        if (lo >= hi) {
+            return -1;
+        }
+        final int mid = (lo + hi) >>> 1;
+        maxEndSeconds[mid] = endSeconds[mid];
+        maxEndNanos[mid] = endNanos[mid];
+        extendMaxEnd(mid, augment(lo, mid));
+        extendMaxEnd(mid, augment(mid + 1, hi));
+        return mid;
+    }
+
+    private void extendMaxEnd(final int node, final int child) {
+        if (child >= 0 && compare(maxEndSeconds[child], maxEndNanos[child], maxEndSeconds[node], maxEndNanos[node]) > 0) {
+            maxEndSeconds[node] = maxEndSeconds[child];
+            maxEndNanos[node] = maxEndNanos[child];
+        }
+    }
+
+    public int size() {
+        return timespans.length;
+    }
+
+    /**
+     * @return the timespans, ordered by start then end
+     */
+    List<Timespan> timespans() {
+        return Collections.unmodifiableList(Arrays.asList(timespans));
+    }
+
+    /**
+     * Counts the occurrences of a timespan by binary search over the sorted starts and ends.
+     */
+    int count(final Timespan timespan) {
+        final long startSecond = timespan.startEpochSecond();
+        final int startNano = timespan.startNano();
+        final long endSecond = timespan.endEpochSecond();
+        final int endNano = timespan.endNano();
+        int lo = 0;
+        int hi = timespans.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            int cmp = compare(startSeconds[mid], startNanos[mid], startSecond, startNano);
+            if (cmp == 0) {
+                cmp = compare(endSeconds[mid], endNanos[mid], endSecond, endNano);
+            }
+            if (cmp < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        int count = 0;
+        for (int i = lo; i < timespans.length && timespans[i].equals(timespan); i++) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#contains(Instant) contains} an instant.
+     *
+     * @param instant the instant to query
+     * @return the containing timespans, ordered by start
+     */
+    public List<Timespan> containing(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        final List<Timespan> result = new ArrayList<>();
+        containing(instant.getEpochSecond(), instant.getNano(), 0, timespans.length, result);
+        return result;
+    }
+
+    private void containing(final long seconds, final int nanos, final int lo, final int hi, final List<Timespan> result) {
+        if (lo >= hi) {
+            return;
+        }
+        final int mid = (lo + hi) >>> 1;
+        if (compare(maxEndSeconds[mid], maxEndNanos[mid], seconds, nanos) <= 0) {
+            return;
+        }
+        containing(seconds, nanos, lo, mid, result);
+        if (compare(startSeconds[mid], startNanos[mid], seconds, nanos) > 0) {
+            return;
+        }
+        if (compare(endSeconds[mid], endNanos[mid], seconds, nanos) > 0) {
+            result.add(timespans[mid]);
+        }
+        containing(seconds, nanos, mid + 1, hi, result);
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#overlaps(Timespan) overlaps} another timespan.
+     *
+     * @param timespan the timespan to query
+     * @return the overlapping timespans, ordered by start
+     */
+    public List<Timespan> overlapping(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        final List<Timespan> result = new ArrayList<>();
+        overlapping(timespan, 0, timespans.length, result);
+        return result;
+    }
+
+    private void overlapping(final Timespan query, final int lo, final int hi, final List<Timespan> result) {
+        if (lo >= hi) {
+            return;
+        }
+        final int mid = (lo + hi) >>> 1;
+        if (compare(maxEndSeconds[mid], maxEndNanos[mid], query.startEpochSecond(), query.startNano()) <= 0) {
+            return;
+        }
+        overlapping(query, lo, mid, result);
+        if (compare(startSeconds[mid], startNanos[mid], query.endEpochSecond(), query.endNano()) >= 0) {
+            return;
+        }
+        if (timespans[mid].overlaps(query)) {
+            result.add(timespans[mid]);
+        }
+        overlapping(query, mid + 1, hi, result);
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+}
@@ -0,0 +1,93 @@
+package org.rhyssaldanha.time.index;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Linear scans over timespans packed into parallel arrays of starts and ends, for when no index has been built.
+ * <p>
+ * Starts and ends are in any one unit, such as nanoseconds from the epoch as accepted by
+ * {@link org.rhyssaldanha.time.TimespanBatchBuilder#ofEpochNano(long[], long[])}, and timespans are half-open,
+ * as for {@link Timespan}. A start-only timespan has an end of {@link Long#MAX_VALUE}.
+ * <p>
+ * Matches are returned as a bit mask, with bit {@code i % 64} of word {@code i / 64} set if timespan {@code i}
+ * matches, in the layout of {@link BitSet#valueOf(long[])}.
+ * <p>
+ * On Java 21 and later, when the {@code jdk.incubator.vector} module is added with
+ * {@code --add-modules jdk.incubator.vector}, many timespans are compared at once with the Vector API.
+ * Otherwise they are compared one at a time.
+ */
+public final class TimespanScan {
+
+    private TimespanScan() {
+    }
+
+    /**
+     * @return a mask of the timespans which {@linkplain Timespan#contains(java.time.Instant) contain} an instant
+     */
+    public static long[] containing(final long[] starts, final long[] ends, final long instant) {
+        final long[] mask = new long[words(starts)];
+        containing(starts, ends, instant, mask);
+        return mask;
+    }
+
+    /**
+     * Finds the timespans which {@linkplain Timespan#contains(java.time.Instant) contain} an instant, into an
+     * existing mask. Any words of the mask after those needed are left unchanged.
+     *
+     * @return the number of timespans found
+     * @throws IllegalArgumentException if the arrays are not the same length, or the mask is too short
+     */
+    public static int containing(final long[] starts, final long[] ends, final long instant, final long[] mask) {
+        requireValid(starts, ends, mask);
+        return ScanKernel.containing(starts, ends, instant, mask);
+    }
+
+    /**
+     * @return a mask of the timespans which {@linkplain Timespan#overlaps(Timespan) overlap} the timespan
+     * from {@code from}, inclusive, to {@code to}, exclusive
+     */
+    public static long[] overlapping(final long[] starts, final long[] ends, final long from, final long to) {
+        final long[] mask = new long[words(starts)];
+        overlapping(starts, ends, from, to, mask);
+        return mask;
+    }
+
+    /**
+     * Finds the timespans which {@linkplain Timespan#overlaps(Timespan) overlap} the timespan from {@code from},
+     * inclusive, to {@code to}, exclusive, into an existing mask. Any words of the mask after those needed are
+     * left unchanged.
+     *
+     * @return the number of timespans found
+     * @throws IllegalArgumentException if the arrays are not the same length, or the mask is too short
+     */
+    public static int overlapping(final long[] starts, final long[] ends, final long from, final long to, final long[] mask) {
+        requireValid(starts, ends, mask);
+        if (from >= to) {
+            Arrays.fill(mask, 0, words(starts), 0L);
+            return 0;
+        }
+        return ScanKernel.overlapping(starts, ends, from, to, mask);
+    }
+
+    private static int words(final long[] starts) {
+        requireNonNull(starts, "starts must not be null");
+        return ScalarTimespanScan.words(starts.length);
+    }
+
+    private static void requireValid(final long[] starts, final long[] ends, final long[] mask) {
+        requireNonNull(starts, "starts must not be null");
+        requireNonNull(ends, "ends must not be null");
+        requireNonNull(mask, "mask must not be null");
+        if (starts.length != ends.length) {
+            throw new IllegalArgumentException("arrays must have the same length");
+        }
+        if (mask.length < words(starts)) {
+            throw new IllegalArgumentException("mask must have at least " + words(starts) + " words");
+        }
+    }
+}
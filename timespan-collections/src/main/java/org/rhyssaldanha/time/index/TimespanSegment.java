@@ -0,0 +1,330 @@
+package org.rhyssaldanha.time.index;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable file of {@link Timespan}s, queried through a memory mapping without reading the whole file.
+ * <p>
+ * A segment file is little-endian, and laid out as:
+ * <pre>
+ * header:  magic (int), version (int), record count (long)
+ * records: one per timespan, sorted by start then end
+ *          offset  0: start epoch second (long)
+ *          offset  8: end epoch second   (long, {@link Long#MAX_VALUE} if start-only)
+ *          offset 16: start nano         (int)
+ *          offset 20: end nano           (int)
+ * footer:  one entry per block of {@value #BLOCK_RECORDS} records
+ *          offset  0: first start epoch second        (long)
+ *          offset  8: latest end epoch second         (long)
+ *          offset 16: running latest end epoch second (long)
+ *          offset 24: first start nano                (int)
+ *          offset 28: latest end nano                 (int)
+ *          offset 32: running latest end nano         (int)
+ * trailer: block count (int), magic (int)
+ * </pre>
+ * The running latest end of a block is the latest end of that block and every earlier block, so it never decreases.
+ * Opening a segment maps the file and checks its header and trailer. A query binary searches the running latest ends
+ * for the first block which could end after the start of the query, and the first starts for the last block which
+ * starts before its end. Of the blocks between them, it reads the records of only those whose own latest end is after
+ * the start of the query, so a start-only or very long timespan in an early block does not make every query read
+ * every later block.
+ * <p>
+ * A single mapping is limited to 2GB, so a segment holds at most about 89 million timespans.
+ * This class is immutable and thread-safe.
+ */
+public final class TimespanSegment {
+
+    static final int BLOCK_RECORDS = 64;
+
+    private static final int MAGIC = 0x5453_4547;
+    private static final int VERSION = 3;
+    private static final int HEADER_BYTES = 16;
+    private static final int RECORD_BYTES = 24;
+    private static final int BLOCK_BYTES = 36;
+    private static final int TRAILER_BYTES = 8;
+
+    private static final int START_SECONDS = 0;
+    private static final int END_SECONDS = 8;
+    private static final int START_NANOS = 16;
+    private static final int END_NANOS = 20;
+
+    private static final int BLOCK_START_SECONDS = 0;
+    private static final int BLOCK_END_SECONDS = 8;
+    private static final int RUNNING_END_SECONDS = 16;
+    private static final int BLOCK_START_NANOS = 24;
+    private static final int BLOCK_END_NANOS = 28;
+    private static final int RUNNING_END_NANOS = 32;
+
+    private static final long OPEN_END_SECONDS = Long.MAX_VALUE;
+
+    private static final Comparator<Timespan> BY_START_THEN_END = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano)
+            .thenComparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int blocks;
+    private final int footer;
+
+    /**
+     * Writes timespans to a new segment file, replacing any existing file.
+     *
+     * @throws IllegalArgumentException if there are too many timespans for one segment
+     */
+    public static void write(final Path path, final Collection<Timespan> timespans) throws IOException {
+        requireNonNull(path, "path must not be null");
+        requireNonNull(timespans, "timespans must not be null");
+        final Timespan[] sorted = timespans.toArray(new Timespan[0]);
+        for (final Timespan timespan : sorted) {
+            requireNonNull(timespan, "timespans must not contain null");
+        }
+        Arrays.sort(sorted, BY_START_THEN_END);
+
+        final int blocks = (sorted.length + BLOCK_RECORDS - 1) / BLOCK_RECORDS;
+        final long length = HEADER_BYTES + (long) sorted.length * RECORD_BYTES + (long) blocks * BLOCK_BYTES + TRAILER_BYTES;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many timespans for one segment");
+        }
+        final ByteBuffer out = ByteBuffer.allocate((int) length).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putLong(sorted.length);
+        for (final Timespan timespan : sorted) {
+            out.putLong(timespan.startEpochSecond())
+                    .putLong(timespan.endEpochSecond())
+                    .putInt(timespan.startNano())
+                    .putInt(timespan.endNano());
+        }
+        long runningEndSeconds = Long.MIN_VALUE;
+        int runningEndNanos = 0;
+        for (int block = 0; block < blocks; block++) {
+            final int first = block * BLOCK_RECORDS;
+            long latestEndSeconds = Long.MIN_VALUE;
+            int latestEndNanos = 0;
+            for (int i = first; i < Math.min(first + BLOCK_RECORDS, sorted.length); i++) {
+                final long endSeconds = sorted[i].endEpochSecond();
+                final int endNanos = sorted[i].endNano();
+                if (compare(endSeconds, endNanos, latestEndSeconds, latestEndNanos) > 0) {
+                    latestEndSeconds = endSeconds;
+                    latestEndNanos = endNanos;
+                }
+            }
+            if (compare(latestEndSeconds, latestEndNanos, runningEndSeconds, runningEndNanos) > 0) {
+                runningEndSeconds = latestEndSeconds;
+                runningEndNanos = latestEndNanos;
+            }
+            out.putLong(sorted[first].startEpochSecond())
+                    .putLong(latestEndSeconds)
+                    .putLong(runningEndSeconds)
+                    .putInt(sorted[first].startNano())
+                    .putInt(latestEndNanos)
+                    .putInt(runningEndNanos);
+        }
+        out.putInt(blocks).putInt(MAGIC);
+        out.flip();
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Maps a segment file. The mapping stays valid after the file is closed, until the segment is garbage collected.
+     *
+     * @throws IOException if the file cannot be read, or is not a segment
+     */
+    public static TimespanSegment open(final Path path) throws IOException {
+        requireNonNull(path, "path must not be null");
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final long length = channel.size();
+            if (length > Integer.MAX_VALUE) {
+                throw new IOException("segment is too large to map");
+            }
+            if (length < HEADER_BYTES + TRAILER_BYTES) {
+                throw new IOException("malformed timespan segment");
+            }
+            final MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+            return new TimespanSegment(mapped.order(ByteOrder.LITTLE_ENDIAN));
+        }
+    }
+
+    private TimespanSegment(final ByteBuffer buffer) throws IOException {
+        final int length = buffer.capacity();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(length - Integer.BYTES) != MAGIC) {
+            throw new IOException("malformed timespan segment");
+        }
+        if (buffer.getInt(Integer.BYTES) != VERSION) {
+            throw new IOException("unsupported timespan segment version " + buffer.getInt(Integer.BYTES));
+        }
+        final long size = buffer.getLong(8);
+        final int blocks = buffer.getInt(length - TRAILER_BYTES);
+        if (size < 0 || blocks != (size + BLOCK_RECORDS - 1) / BLOCK_RECORDS
+                || HEADER_BYTES + size * RECORD_BYTES + (long) blocks * BLOCK_BYTES + TRAILER_BYTES != length) {
+            throw new IOException("malformed timespan segment");
+        }
+        this.buffer = buffer;
+        this.size = (int) size;
+        this.blocks = blocks;
+        this.footer = HEADER_BYTES + this.size * RECORD_BYTES;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Timespan get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("index " + index + " out of bounds for size " + size);
+        }
+        final int record = record(index);
+        final long startSeconds = buffer.getLong(record + START_SECONDS);
+        final int startNanos = buffer.getInt(record + START_NANOS);
+        final long endSeconds = buffer.getLong(record + END_SECONDS);
+        return endSeconds == OPEN_END_SECONDS
+                ? Timespan.startingEpochSecond(startSeconds, startNanos)
+                : Timespan.ofEpochSecond(startSeconds, startNanos, endSeconds, buffer.getInt(record + END_NANOS));
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#contains(Instant) contains} an instant.
+     *
+     * @param instant the instant to query
+     * @return the containing timespans, ordered by start
+     */
+    public List<Timespan> containing(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        final long seconds = instant.getEpochSecond();
+        final int nanos = instant.getNano();
+        final List<Timespan> result = new ArrayList<>();
+        final int lastBlock = lastBlockStartingBefore(seconds, nanos, true);
+        for (int block = firstBlockEndingAfter(seconds, nanos); block <= lastBlock; block++) {
+            if (!blockEndsAfter(block, seconds, nanos)) {
+                continue;
+            }
+            final int end = Math.min((block + 1) * BLOCK_RECORDS, size);
+            for (int i = block * BLOCK_RECORDS; i < end; i++) {
+                final int record = record(i);
+                if (compare(buffer.getLong(record + START_SECONDS), buffer.getInt(record + START_NANOS), seconds, nanos) > 0) {
+                    break;
+                }
+                if (compare(buffer.getLong(record + END_SECONDS), buffer.getInt(record + END_NANOS), seconds, nanos) > 0) {
+                    result.add(get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#overlaps(Timespan) overlaps} another timespan.
+     *
+     * @param timespan the timespan to query
+     * @return the overlapping timespans, ordered by start
+     */
+    public List<Timespan> overlapping(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        final long fromSeconds = timespan.startEpochSecond();
+        final int fromNanos = timespan.startNano();
+        final long toSeconds = timespan.endEpochSecond();
+        final int toNanos = timespan.endNano();
+        final List<Timespan> result = new ArrayList<>();
+        if (compare(fromSeconds, fromNanos, toSeconds, toNanos) >= 0) {
+            return result;
+        }
+        final int lastBlock = lastBlockStartingBefore(toSeconds, toNanos, false);
+        for (int block = firstBlockEndingAfter(fromSeconds, fromNanos); block <= lastBlock; block++) {
+            if (!blockEndsAfter(block, fromSeconds, fromNanos)) {
+                continue;
+            }
+            final int end = Math.min((block + 1) * BLOCK_RECORDS, size);
+            for (int i = block * BLOCK_RECORDS; i < end; i++) {
+                final int record = record(i);
+                final long startSeconds = buffer.getLong(record + START_SECONDS);
+                final int startNanos = buffer.getInt(record + START_NANOS);
+                if (compare(startSeconds, startNanos, toSeconds, toNanos) >= 0) {
+                    break;
+                }
+                final long endSeconds = buffer.getLong(record + END_SECONDS);
+                final int endNanos = buffer.getInt(record + END_NANOS);
+                if (compare(endSeconds, endNanos, fromSeconds, fromNanos) > 0
+                        && compare(startSeconds, startNanos, endSeconds, endNanos) < 0) {
+                    result.add(get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return whether some timespan in a block ends after an instant
+     */
+    private boolean blockEndsAfter(final int block, final long seconds, final int nanos) {
+        final int entry = footer + block * BLOCK_BYTES;
+        return compare(buffer.getLong(entry + BLOCK_END_SECONDS), buffer.getInt(entry + BLOCK_END_NANOS), seconds, nanos) > 0;
+    }
+
+    /**
+     * @return the first block by which some timespan ends after an instant, or the number of blocks if there is none
+     */
+    private int firstBlockEndingAfter(final long seconds, final int nanos) {
+        int lo = 0;
+        int hi = blocks;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int entry = footer + mid * BLOCK_BYTES;
+            if (compare(buffer.getLong(entry + RUNNING_END_SECONDS), buffer.getInt(entry + RUNNING_END_NANOS), seconds, nanos) <= 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * @return the last block whose first timespan starts before, or optionally at, an instant, or -1 if there is none
+     */
+    private int lastBlockStartingBefore(final long seconds, final int nanos, final boolean inclusive) {
+        int lo = 0;
+        int hi = blocks;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            final int entry = footer + mid * BLOCK_BYTES;
+            final int cmp = compare(buffer.getLong(entry + BLOCK_START_SECONDS), buffer.getInt(entry + BLOCK_START_NANOS), seconds, nanos);
+            if (cmp < 0 || (inclusive && cmp == 0)) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    private static int record(final int index) {
+        return HEADER_BYTES + index * RECORD_BYTES;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+}
@@ -0,0 +1,223 @@
+package org.rhyssaldanha.time.index;
+
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An immutable index of {@link Timespan}s in aligned buckets of a minute, an hour and a day, like a hierarchical
+ * timing wheel, for sets of mostly short timespans.
+ * <p>
+ * Each timespan goes in the level of the narrowest buckets which are no shorter than it, in the bucket holding its
+ * start. Timespans longer than a day, and start-only timespans, are kept in a {@link TimespanIntervalTree}.
+ * Buckets are aligned to the epoch, so days are UTC days.
+ * <p>
+ * A timespan in a level ends before the end of the bucket after its own, so a point query only tests the timespans
+ * of two buckets per level, and those of the tree, however many timespans are indexed.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+public final class TimespanWheelIndex {
+
+    static final long[] BUCKET_SECONDS = {60, 3_600, 86_400};
+
+    private static final Comparator<Timespan> BY_START_THEN_END = Comparator
+            .comparingLong(Timespan::startEpochSecond)
+            .thenComparingInt(Timespan::startNano)
+            .thenComparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private final Level[] levels;
+    private final TimespanIntervalTree overflow;
+    private final int size;
+
+    public static TimespanWheelIndex of(final Collection<Timespan> timespans) {
+        requireNonNull(timespans, "timespans must not be null");
+        final List<List<Timespan>> byLevel = new ArrayList<>();
+        for (int level = 0; level <= BUCKET_SECONDS.length; level++) {
+            byLevel.add(new ArrayList<>());
+        }
+        for (final Timespan timespan : timespans) {
+            requireNonNull(timespan, "timespans must not contain null");
+            byLevel.get(level(timespan)).add(timespan);
+        }
+        final Level[] levels = new Level[BUCKET_SECONDS.length];
+        for (int level = 0; level < levels.length; level++) {
+            levels[level] = new Level(BUCKET_SECONDS[level], byLevel.get(level));
+        }
+        return new TimespanWheelIndex(levels, TimespanIntervalTree.of(byLevel.get(levels.length)), timespans.size());
+    }
+
+    private TimespanWheelIndex(final Level[] levels, final TimespanIntervalTree overflow, final int size) {
+        this.levels = levels;
+        this.overflow = overflow;
+        this.size = size;
+    }
+
+    /**
+     * @return the level of the narrowest buckets which are no shorter than a timespan,
+     * or the number of levels if it must go in the tree
+     */
+    static int level(final Timespan timespan) {
+        if (timespan.isStartOnly()) {
+            return BUCKET_SECONDS.length;
+        }
+        final long seconds = timespan.endEpochSecond() - timespan.startEpochSecond();
+        final int nanos = timespan.endNano() - timespan.startNano();
+        for (int level = 0; level < BUCKET_SECONDS.length; level++) {
+            if (compare(seconds, nanos, BUCKET_SECONDS[level], 0) <= 0) {
+                return level;
+            }
+        }
+        return BUCKET_SECONDS.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#contains(Instant) contains} an instant.
+     *
+     * @param instant the instant to query
+     * @return the containing timespans, ordered by start then end
+     */
+    public List<Timespan> containing(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        final long seconds = instant.getEpochSecond();
+        final int nanos = instant.getNano();
+        final List<Timespan> result = overflow.containing(instant);
+        int sources = result.isEmpty() ? 0 : 1;
+        for (final Level level : levels) {
+            final int before = result.size();
+            level.containing(seconds, nanos, result);
+            sources += result.size() > before ? 1 : 0;
+        }
+        if (sources > 1) {
+            result.sort(BY_START_THEN_END);
+        }
+        return result;
+    }
+
+    /**
+     * Finds every timespan which {@linkplain Timespan#overlaps(Timespan) overlaps} another timespan.
+     *
+     * @param timespan the timespan to query
+     * @return the overlapping timespans, ordered by start then end
+     */
+    public List<Timespan> overlapping(final Timespan timespan) {
+        requireNonNull(timespan, "timespan must not be null");
+        final List<Timespan> result = overflow.overlapping(timespan);
+        if (compare(timespan.startEpochSecond(), timespan.startNano(), timespan.endEpochSecond(), timespan.endNano()) >= 0) {
+            return result;
+        }
+        int sources = result.isEmpty() ? 0 : 1;
+        for (final Level level : levels) {
+            final int before = result.size();
+            level.overlapping(timespan, result);
+            sources += result.size() > before ? 1 : 0;
+        }
+        if (sources > 1) {
+            result.sort(BY_START_THEN_END);
+        }
+        return result;
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : Integer.compare(nanos, otherNanos);
+    }
+
+    /**
+     * The buckets of one width, as the sorted numbers of the non-empty buckets and the offsets of their first
+     * timespans, over primitive arrays of the timespans sorted by start. The bucket of a timespan only depends
+     * on its start, so each bucket's timespans are contiguous.
+     */
+    private static final class Level {
+        private final long width;
+        private final long[] buckets;
+        private final int[] offsets;
+        private final Timespan[] timespans;
+        private final long[] startSeconds;
+        private final int[] startNanos;
+        private final long[] endSeconds;
+        private final int[] endNanos;
+
+        Level(final long width, final List<Timespan> timespans) {
+            final Timespan[] sorted = timespans.toArray(new Timespan[0]);
+            Arrays.sort(sorted, BY_START_THEN_END);
+            final int size = sorted.length;
+            this.width = width;
+            this.timespans = sorted;
+            this.startSeconds = new long[size];
+            this.startNanos = new int[size];
+            this.endSeconds = new long[size];
+            this.endNanos = new int[size];
+
+            long[] buckets = new long[16];
+            int[] offsets = new int[17];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                startSeconds[i] = sorted[i].startEpochSecond();
+                startNanos[i] = sorted[i].startNano();
+                endSeconds[i] = sorted[i].endEpochSecond();
+                endNanos[i] = sorted[i].endNano();
+                final long bucket = Math.floorDiv(startSeconds[i], width);
+                if (count == 0 || buckets[count - 1] != bucket) {
+                    if (count == buckets.length) {
+                        buckets = Arrays.copyOf(buckets, count * 2);
+                        offsets = Arrays.copyOf(offsets, count * 2 + 1);
+                    }
+                    buckets[count] = bucket;
+                    offsets[count] = i;
+                    count++;
+                }
+            }
+            offsets[count] = size;
+            this.buckets = Arrays.copyOf(buckets, count);
+            this.offsets = Arrays.copyOf(offsets, count + 1);
+        }
+
+        /**
+         * @return the offset of the first timespan starting in the bucket before the one holding a second, or later
+         */
+        private int from(final long seconds) {
+            final int bucket = Arrays.binarySearch(buckets, Math.floorDiv(seconds, width) - 1);
+            return offsets[bucket < 0 ? -bucket - 1 : bucket];
+        }
+
+        void containing(final long seconds, final int nanos, final List<Timespan> result) {
+            for (int i = from(seconds); i < timespans.length; i++) {
+                if (compare(startSeconds[i], startNanos[i], seconds, nanos) > 0) {
+                    return;
+                }
+                if (compare(endSeconds[i], endNanos[i], seconds, nanos) > 0) {
+                    result.add(timespans[i]);
+                }
+            }
+        }
+
+        void overlapping(final Timespan query, final List<Timespan> result) {
+            final long fromSeconds = query.startEpochSecond();
+            final int fromNanos = query.startNano();
+            final long toSeconds = query.endEpochSecond();
+            final int toNanos = query.endNano();
+            for (int i = from(fromSeconds); i < timespans.length; i++) {
+                if (compare(startSeconds[i], startNanos[i], toSeconds, toNanos) >= 0) {
+                    return;
+                }
+                if (compare(endSeconds[i], endNanos[i], fromSeconds, fromNanos) > 0
+                        && compare(startSeconds[i], startNanos[i], endSeconds[i], endNanos[i]) < 0) {
+                    result.add(timespans[i]);
+                }
+            }
+        }
+    }
+}
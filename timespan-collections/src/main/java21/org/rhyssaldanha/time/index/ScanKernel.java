@@ -0,0 +1,28 @@
+package org.rhyssaldanha.time.index;
+
+/**
+ * Chooses how {@link TimespanScan} compares timespans. The arguments have already been checked.
+ * <p>
+ * The Vector API is an incubator module, which is only loaded when the application is started with
+ * {@code --add-modules jdk.incubator.vector}. {@link VectorTimespanScan} is only used if it is, and otherwise
+ * timespans are compared one at a time.
+ */
+final class ScanKernel {
+
+    private static final boolean VECTOR = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private ScanKernel() {
+    }
+
+    static int containing(final long[] starts, final long[] ends, final long instant, final long[] mask) {
+        return VECTOR
+                ? VectorTimespanScan.containing(starts, ends, instant, mask)
+                : ScalarTimespanScan.containing(starts, ends, instant, mask);
+    }
+
+    static int overlapping(final long[] starts, final long[] ends, final long from, final long to, final long[] mask) {
+        return VECTOR
+                ? VectorTimespanScan.overlapping(starts, ends, from, to, mask)
+                : ScalarTimespanScan.overlapping(starts, ends, from, to, mask);
+    }
+}
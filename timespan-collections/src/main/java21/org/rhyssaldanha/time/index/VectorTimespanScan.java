@@ -0,0 +1,73 @@
+package org.rhyssaldanha.time.index;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Scans packed timespans with {@link LongVector} compares, a whole vector of timespans at a time.
+ * <p>
+ * Every species of {@code long} has a power of two lanes, at most 64, so the lanes of one vector always fall in
+ * the same word of the mask. The timespans after the last whole vector are compared one at a time.
+ */
+final class VectorTimespanScan {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    private VectorTimespanScan() {
+    }
+
+    static int containing(final long[] starts, final long[] ends, final long instant, final long[] mask) {
+        final int size = starts.length;
+        final int bound = SPECIES.loopBound(size);
+        clear(mask, size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector start = LongVector.fromArray(SPECIES, starts, i);
+            final LongVector end = LongVector.fromArray(SPECIES, ends, i);
+            final VectorMask<Long> matches = start.compare(VectorOperators.LE, instant)
+                    .and(end.compare(VectorOperators.GT, instant));
+            mask[i >>> 6] |= matches.toLong() << i;
+        }
+        for (; i < size; i++) {
+            mask[i >>> 6] |= (starts[i] <= instant & instant < ends[i] ? 1L : 0L) << i;
+        }
+        return count(mask, size);
+    }
+
+    static int overlapping(final long[] starts, final long[] ends, final long from, final long to, final long[] mask) {
+        final int size = starts.length;
+        final int bound = SPECIES.loopBound(size);
+        clear(mask, size);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector start = LongVector.fromArray(SPECIES, starts, i);
+            final LongVector end = LongVector.fromArray(SPECIES, ends, i);
+            final VectorMask<Long> matches = start.compare(VectorOperators.LT, to)
+                    .and(end.compare(VectorOperators.GT, from))
+                    .and(start.compare(VectorOperators.LT, end));
+            mask[i >>> 6] |= matches.toLong() << i;
+        }
+        for (; i < size; i++) {
+            final long start = starts[i];
+            final long end = ends[i];
+            mask[i >>> 6] |= (start < to & from < end & start < end ? 1L : 0L) << i;
+        }
+        return count(mask, size);
+    }
+
+    private static void clear(final long[] mask, final int size) {
+        for (int word = 0; word < ScalarTimespanScan.words(size); word++) {
+            mask[word] = 0;
+        }
+    }
+
+    private static int count(final long[] mask, final int size) {
+        int count = 0;
+        for (int word = 0; word < ScalarTimespanScan.words(size); word++) {
+            count += Long.bitCount(mask[word]);
+        }
+        return count;
+    }
+}
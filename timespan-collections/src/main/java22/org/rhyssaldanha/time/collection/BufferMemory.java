@@ -0,0 +1,43 @@
+package org.rhyssaldanha.time.collection;
+
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * Native-order memory outside the Java heap, addressed by a {@code long} byte offset, for {@link TimespanBuffer}.
+ * <p>
+ * The memory is a single {@link MemorySegment}, so it is not limited to 2GB. It is allocated from a shared
+ * {@link Arena}, so any thread may read it, and it is freed as soon as it is {@linkplain #close() closed}.
+ * Any access after that throws an {@link IllegalStateException}.
+ */
+final class BufferMemory {
+
+    private final Arena arena;
+    private final MemorySegment segment;
+
+    BufferMemory(final long bytes) {
+        this.arena = Arena.ofShared();
+        this.segment = arena.allocate(bytes, Long.BYTES);
+    }
+
+    long getLong(final long offset) {
+        return segment.get(ValueLayout.JAVA_LONG, offset);
+    }
+
+    int getInt(final long offset) {
+        return segment.get(ValueLayout.JAVA_INT, offset);
+    }
+
+    void putLong(final long offset, final long value) {
+        segment.set(ValueLayout.JAVA_LONG, offset, value);
+    }
+
+    void putInt(final long offset, final int value) {
+        segment.set(ValueLayout.JAVA_INT, offset, value);
+    }
+
+    void close() {
+        arena.close();
+    }
+}
@@ -0,0 +1,95 @@
+package org.rhyssaldanha.time;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Timespans and checks shared by the collection and index tests.
+ */
+public final class TimespanFixtures {
+
+    public static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+
+    public static final Comparator<Timespan> BY_START_THEN_END = Comparator
+            .comparing(Timespan::start)
+            .thenComparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private static final int QUERIES = 500;
+
+    private TimespanFixtures() {
+    }
+
+    public static Instant seconds(final long seconds) {
+        return START.plusSeconds(seconds);
+    }
+
+    public static Instant hours(final int hours) {
+        return START.plus(Duration.ofHours(hours));
+    }
+
+    public static Timespan span(final int startHours, final int endHours) {
+        return Timespan.of(hours(startHours), hours(endHours));
+    }
+
+    /**
+     * @return timespans starting in the range after {@link #START}, shorter than a maximum length,
+     * one in fifty of them start-only
+     */
+    public static List<Timespan> randomTimespans(final Random random, final int count,
+                                                 final Duration range, final Duration maxLength) {
+        final List<Timespan> timespans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final Instant start = START.plusMillis(randomMillis(random, range));
+            timespans.add(random.nextInt(50) == 0
+                    ? Timespan.starting(start)
+                    : Timespan.from(start, Duration.ofMillis(randomMillis(random, maxLength))));
+        }
+        return timespans;
+    }
+
+    private static long randomMillis(final Random random, final Duration bound) {
+        return Math.floorMod(random.nextLong(), bound.toMillis());
+    }
+
+    public static List<Timespan> linearContaining(final Collection<Timespan> timespans, final Instant instant) {
+        return timespans.stream()
+                .filter(timespan -> timespan.contains(instant))
+                .sorted(BY_START_THEN_END)
+                .collect(Collectors.toList());
+    }
+
+    public static List<Timespan> linearOverlapping(final Collection<Timespan> timespans, final Timespan query) {
+        return timespans.stream()
+                .filter(timespan -> timespan.overlaps(query))
+                .sorted(BY_START_THEN_END)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Queries instants around the range after {@link #START}, and timespans from them shorter than a maximum length,
+     * expecting the same timespans in the same order as a linear scan.
+     */
+    public static void assertAgreesWithLinearScan(final Random random, final Collection<Timespan> timespans,
+                                                  final Duration range, final Duration maxQueryLength,
+                                                  final Function<Instant, List<Timespan>> containing,
+                                                  final Function<Timespan, List<Timespan>> overlapping) {
+        final Duration margin = range.dividedBy(20);
+        for (int i = 0; i < QUERIES; i++) {
+            final Instant instant = START.minus(margin).plusMillis(randomMillis(random, range.plus(margin).plus(margin)));
+            assertEquals(linearContaining(timespans, instant), containing.apply(instant));
+
+            final Timespan query = Timespan.from(instant, Duration.ofMillis(randomMillis(random, maxQueryLength)));
+            assertEquals(linearOverlapping(timespans, query), overlapping.apply(query));
+        }
+    }
+}
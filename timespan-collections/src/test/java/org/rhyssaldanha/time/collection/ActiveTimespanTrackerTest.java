@@ -0,0 +1,137 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+
+class ActiveTimespanTrackerTest {
+
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    private final ActiveTimespanTracker<String> tracker = new ActiveTimespanTracker<>();
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        assertThrows(NullPointerException.class, () -> new ActiveTimespanTracker<>(null));
+        assertThrows(NullPointerException.class, () -> tracker.open(null, START));
+        assertThrows(NullPointerException.class, () -> tracker.open("a", null));
+        assertThrows(NullPointerException.class, () -> tracker.close(null, END));
+        assertThrows(NullPointerException.class, () -> tracker.close("a", null));
+        assertThrows(NullPointerException.class, () -> tracker.get(null));
+    }
+
+    @Nested
+    @DisplayName("Open and close")
+    class OpenAndClose {
+
+        @Test
+        @DisplayName("opens a start-only timespan")
+        void open() {
+            assertTrue(tracker.open("a", START));
+
+            assertTrue(tracker.isOpen("a"));
+            assertEquals(Optional.of(Timespan.starting(START)), tracker.get("a"));
+            assertEquals(Map.of("a", Timespan.starting(START)), tracker.snapshot());
+        }
+
+        @Test
+        @DisplayName("does not reopen an open timespan")
+        void openTwice() {
+            tracker.open("a", START);
+
+            assertFalse(tracker.open("a", END));
+            assertEquals(Optional.of(Timespan.starting(START)), tracker.get("a"));
+        }
+
+        @Test
+        @DisplayName("closes into a finished timespan")
+        void close() {
+            tracker.open("a", START);
+
+            assertEquals(Optional.of(Timespan.of(START, END)), tracker.close("a", END));
+            assertFalse(tracker.isOpen("a"));
+            assertEquals(0, tracker.size());
+        }
+
+        @Test
+        @DisplayName("closing a key without an open timespan does nothing")
+        void closeNotOpen() {
+            assertEquals(Optional.empty(), tracker.close("a", END));
+        }
+
+        @Test
+        @DisplayName("closing before the start leaves the timespan open")
+        void closeBeforeStart() {
+            tracker.open("a", END);
+
+            assertThrows(DateTimeException.class, () -> tracker.close("a", START));
+            assertTrue(tracker.isOpen("a"));
+        }
+
+        @Test
+        @DisplayName("opens and closes at the time of the clock")
+        void clock() {
+            final ActiveTimespanTracker<String> clocked = new ActiveTimespanTracker<>(Clock.fixed(START, ZoneOffset.UTC));
+
+            assertTrue(clocked.open("a"));
+            assertEquals(Optional.of(Timespan.of(START, START)), clocked.close("a"));
+        }
+    }
+
+    @Test
+    @DisplayName("every timespan is closed exactly once across threads")
+    void concurrent() throws Exception {
+        final int threads = 8;
+        final int iterations = 20_000;
+        final AtomicLong closed = new AtomicLong();
+        final AtomicLong opened = new AtomicLong();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int t = 0; t < threads; t++) {
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < iterations; i++) {
+                        final String key = String.valueOf(i % 64);
+                        if (tracker.open(key, START)) {
+                            opened.incrementAndGet();
+                        }
+                        tracker.close(key, END).ifPresent(timespan -> {
+                            assertEquals(Timespan.of(START, END), timespan);
+                            closed.incrementAndGet();
+                        });
+                    }
+                });
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(0, tracker.size());
+        assertEquals(opened.get(), closed.get());
+    }
+}
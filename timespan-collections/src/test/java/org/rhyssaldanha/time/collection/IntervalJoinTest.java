@@ -0,0 +1,133 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+import static org.rhyssaldanha.time.TimespanFixtures.span;
+
+class IntervalJoinTest {
+
+    private static final Comparator<Timespan> BY_END = Comparator
+            .comparingLong(Timespan::endEpochSecond)
+            .thenComparingInt(Timespan::endNano);
+
+    private static String match(final Object left, final Object right, final Timespan intersection) {
+        return left + "-" + right + ":" + intersection;
+    }
+
+    @Nested
+    class Preconditions {
+        private final List<Map.Entry<String, Timespan>> SORTED = List.of(Map.entry("a", span(0, 1)), Map.entry("b", span(1, 2)));
+        private final List<Map.Entry<String, Timespan>> UNSORTED = List.of(Map.entry("b", span(1, 2)), Map.entry("a", span(0, 1)));
+
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> IntervalJoin.join(null, SORTED, (l, r, i) -> {
+            }));
+            assertThrows(NullPointerException.class, () -> IntervalJoin.join(SORTED, null, (l, r, i) -> {
+            }));
+            assertThrows(NullPointerException.class, () -> IntervalJoin.join(SORTED, SORTED, null));
+            assertThrows(NullPointerException.class, () -> IntervalJoin.join(Collections.singletonList(null), SORTED, (l, r, i) -> {
+            }));
+        }
+
+        @Test
+        @DisplayName("inputs must be sorted by start")
+        void sorted() {
+            assertEquals("left must be sorted by start", assertThrows(IllegalArgumentException.class,
+                    () -> IntervalJoin.join(UNSORTED, SORTED, (l, r, i) -> {
+                    })).getMessage());
+            assertEquals("right must be sorted by start", assertThrows(IllegalArgumentException.class,
+                    () -> IntervalJoin.join(SORTED, UNSORTED, (l, r, i) -> {
+                    })).getMessage());
+        }
+
+        @Test
+        @DisplayName("partitions must be positive")
+        void partitions() {
+            assertThrows(IllegalArgumentException.class, () -> IntervalJoin.parallelJoin(SORTED, SORTED, 0, (l, r, i) -> {
+            }));
+        }
+    }
+
+    @Test
+    @DisplayName("emits overlapping pairs with their intersection")
+    void join() {
+        final List<Map.Entry<String, Timespan>> sessions = List.of(
+                Map.entry("s1", span(0, 3)),
+                Map.entry("s2", span(2, 4)),
+                Map.entry("s3", Timespan.starting(hours(6))));
+        final List<Map.Entry<Integer, Timespan>> windows = List.of(
+                Map.entry(1, span(1, 2)),
+                Map.entry(2, span(3, 3)),
+                Map.entry(3, span(4, 7)),
+                Map.entry(4, Timespan.starting(hours(8))));
+
+        final List<String> matches = new ArrayList<>();
+        IntervalJoin.join(sessions, windows, (session, window, intersection) -> matches.add(match(session, window, intersection)));
+
+        assertEquals(List.of(
+                match("s1", 1, span(1, 2)),
+                match("s3", 3, span(6, 7)),
+                match("s3", 4, Timespan.starting(hours(8)))), matches);
+    }
+
+    @Test
+    @DisplayName("agrees with a nested loop, sequentially and in parallel")
+    void agreesWithNestedLoop() {
+        final Random random = new Random(42);
+        final List<Map.Entry<Integer, Timespan>> left = randomEntries(random, 2_000, 200);
+        final List<Map.Entry<Integer, Timespan>> right = randomEntries(random, 300, 2_000);
+
+        final Set<String> expected = new HashSet<>();
+        for (final Map.Entry<Integer, Timespan> l : left) {
+            for (final Map.Entry<Integer, Timespan> r : right) {
+                if (l.getValue().overlaps(r.getValue())) {
+                    final Instant start = l.getValue().start().isAfter(r.getValue().start()) ? l.getValue().start() : r.getValue().start();
+                    final Timespan earlierEnd = BY_END.compare(l.getValue(), r.getValue()) < 0 ? l.getValue() : r.getValue();
+                    expected.add(match(l.getKey(), r.getKey(), earlierEnd.from(start)));
+                }
+            }
+        }
+
+        final List<String> sequential = new ArrayList<>();
+        IntervalJoin.join(left, right, (l, r, intersection) -> sequential.add(match(l, r, intersection)));
+        assertEquals(expected.size(), sequential.size());
+        assertEquals(expected, new HashSet<>(sequential));
+
+        for (final int partitions : new int[]{1, 3, 16, 5_000}) {
+            final List<String> parallel = Collections.synchronizedList(new ArrayList<>());
+            IntervalJoin.parallelJoin(left, right, partitions, (l, r, intersection) -> parallel.add(match(l, r, intersection)));
+            assertEquals(expected.size(), parallel.size());
+            assertEquals(expected, new HashSet<>(parallel));
+        }
+    }
+
+    private static List<Map.Entry<Integer, Timespan>> randomEntries(final Random random, final int count, final int maxSeconds) {
+        final List<Timespan> timespans = randomTimespans(random, count, Duration.ofSeconds(10_000), Duration.ofSeconds(maxSeconds));
+        final List<Map.Entry<Integer, Timespan>> entries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entries.add(Map.entry(i, timespans.get(i)));
+        }
+        entries.sort(Comparator.comparing(entry -> entry.getValue().start()));
+        return entries;
+    }
+}
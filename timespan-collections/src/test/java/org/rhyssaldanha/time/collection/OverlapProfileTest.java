@@ -0,0 +1,104 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.linearContaining;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+import static org.rhyssaldanha.time.TimespanFixtures.span;
+
+class OverlapProfileTest {
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        assertThrows(NullPointerException.class, () -> OverlapProfile.of((List<Timespan>) null));
+        assertThrows(NullPointerException.class, () -> OverlapProfile.of((Stream<Timespan>) null));
+        assertThrows(NullPointerException.class, () -> OverlapProfile.of(Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> OverlapProfile.of(List.of()).depthAt(null));
+    }
+
+    @Test
+    @DisplayName("no timespans have no depth")
+    void empty() {
+        final OverlapProfile profile = OverlapProfile.of(List.of());
+
+        assertEquals(0, profile.maxDepth());
+        assertEquals(TimespanSet.empty(), profile.peaks());
+        assertEquals(List.of(), profile.steps());
+        assertEquals(0, profile.depthAt(START));
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+        private final OverlapProfile PROFILE = OverlapProfile.of(Stream.of(
+                span(0, 4), span(1, 3), span(2, 5), span(4, 6), span(7, 7), Timespan.starting(hours(5))));
+
+        @Test
+        @DisplayName("has the greatest depth")
+        void maxDepth() {
+            assertEquals(3, PROFILE.maxDepth());
+        }
+
+        @Test
+        @DisplayName("has the instants at the greatest depth")
+        void peaks() {
+            assertEquals(TimespanSet.of(span(2, 3)), PROFILE.peaks());
+        }
+
+        @Test
+        @DisplayName("timespans which meet are not counted together")
+        void endExclusive() {
+            assertEquals(2, PROFILE.depthAt(hours(4)));
+            assertEquals(2, PROFILE.depthAt(hours(5)));
+        }
+
+        @Test
+        @DisplayName("has a step function of depth")
+        void steps() {
+            assertEquals(List.of(
+                    new OverlapProfile.Step(hours(0), 1),
+                    new OverlapProfile.Step(hours(1), 2),
+                    new OverlapProfile.Step(hours(2), 3),
+                    new OverlapProfile.Step(hours(3), 2),
+                    new OverlapProfile.Step(hours(6), 1)), PROFILE.steps());
+        }
+
+        @Test
+        @DisplayName("start-only timespans are counted forever")
+        void startOnly() {
+            assertEquals(1, PROFILE.depthAt(Instant.MAX));
+            assertEquals(0, PROFILE.depthAt(hours(-1)));
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with counting containing timespans")
+    void agreesWithCounting() {
+        final List<Timespan> timespans = randomTimespans(new Random(42), 500, Duration.ofSeconds(10_000), Duration.ofSeconds(1_000));
+        final OverlapProfile profile = OverlapProfile.of(timespans);
+
+        int max = 0;
+        for (int second = -10; second < 12_000; second++) {
+            final Instant instant = START.plusSeconds(second);
+            final int expected = linearContaining(timespans, instant).size();
+            assertEquals(expected, profile.depthAt(instant));
+            max = Math.max(max, expected);
+        }
+        assertEquals(max, profile.maxDepth());
+    }
+}
@@ -0,0 +1,187 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.TimespanBatchBuilder;
+
+import java.nio.BufferOverflowException;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class TimespanBufferTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00.123456789Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+    private static final Instant DURING = START.plus(Duration.ofHours(2));
+
+    @Nested
+    class Preconditions {
+        @Test
+        @DisplayName("capacity must not be negative")
+        void negativeCapacity() {
+            assertThrows(IllegalArgumentException.class, () -> TimespanBuffer.allocate(-1));
+        }
+
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanBuffer.allocate(1).add(null));
+        }
+
+        @Test
+        @DisplayName("end must come after start")
+        void endMustComeAfterStart() {
+            assertThrows(DateTimeException.class, () -> TimespanBuffer.allocate(1).add(10, 0, 9, 0));
+        }
+
+        @Test
+        @DisplayName("instants must be valid")
+        void validInstants() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(1);
+
+            assertThrows(DateTimeException.class, () -> buffer.add(0, -1, 1, 0));
+            assertThrows(DateTimeException.class, () -> buffer.add(0, 0, 1, 1_000_000_000));
+            assertThrows(DateTimeException.class, () -> buffer.add(Instant.MIN.getEpochSecond() - 1, 0, 0, 0));
+            assertThrows(DateTimeException.class, () -> buffer.add(0, 0, Instant.MAX.getEpochSecond() + 1, 0));
+            assertThrows(DateTimeException.class, () -> buffer.addStarting(0, 1_000_000_000));
+            assertThrows(DateTimeException.class, () -> buffer.addStarting(Long.MAX_VALUE, 0));
+            assertEquals(0, buffer.size());
+        }
+
+        @Test
+        @DisplayName("cannot add beyond capacity")
+        void full() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(1).addStarting(0, 0);
+
+            assertThrows(BufferOverflowException.class, () -> buffer.addStarting(0, 0));
+        }
+
+        @Test
+        @DisplayName("cannot add a batch beyond capacity")
+        void batchFull() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(2).addStarting(0, 0);
+            final TimespanBatchBuilder batch = TimespanBatchBuilder.ofEpochNano(new long[2], new long[2]);
+
+            assertThrows(NullPointerException.class, () -> buffer.addAll(null));
+            assertThrows(BufferOverflowException.class, () -> buffer.addAll(batch));
+            assertEquals(1, buffer.size());
+        }
+
+        @Test
+        @DisplayName("cannot read beyond size")
+        void outOfBounds() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(2).addStarting(0, 0);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> buffer.view().moveTo(1));
+        }
+
+        @Test
+        @DisplayName("cannot use after closing")
+        void closed() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(2).addStarting(0, 0);
+            buffer.close();
+            buffer.close();
+
+            assertThrows(IllegalStateException.class, () -> buffer.get(0));
+            assertThrows(IllegalStateException.class, () -> buffer.addStarting(0, 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+        private final Timespan TIMESPAN = Timespan.of(START, END);
+        private final Timespan START_ONLY = Timespan.starting(DURING);
+        private final TimespanBuffer BUFFER = TimespanBuffer.allocate(3)
+                .add(TIMESPAN)
+                .add(START_ONLY)
+                .add(END.getEpochSecond(), END.getNano(), END.getEpochSecond() + 1, 0);
+
+        @Test
+        @DisplayName("has a size and capacity")
+        void size() {
+            assertEquals(3, BUFFER.size());
+            assertEquals(3, BUFFER.capacity());
+        }
+
+        @Test
+        @DisplayName("round trips timespans")
+        void get() {
+            assertEquals(TIMESPAN, BUFFER.get(0));
+            assertEquals(START_ONLY, BUFFER.get(1));
+            assertEquals(Timespan.of(END, Instant.ofEpochSecond(END.getEpochSecond() + 1)), BUFFER.get(2));
+        }
+
+        @Test
+        @DisplayName("adds a validated batch")
+        void addAll() {
+            final TimespanBuffer buffer = TimespanBuffer.allocate(3).addAll(TimespanBatchBuilder.ofEpochSecond(
+                    new long[]{START.getEpochSecond(), DURING.getEpochSecond(), END.getEpochSecond()},
+                    new int[]{START.getNano(), DURING.getNano(), END.getNano()},
+                    new long[]{END.getEpochSecond(), Long.MAX_VALUE, END.getEpochSecond() + 1},
+                    new int[]{END.getNano(), 0, 0}));
+
+            for (int i = 0; i < BUFFER.size(); i++) {
+                assertEquals(BUFFER.get(i), buffer.get(i));
+                assertEquals(BUFFER.isStartOnly(i), buffer.isStartOnly(i));
+            }
+        }
+
+        @Test
+        @DisplayName("has primitive accessors")
+        void primitiveAccessors() {
+            assertEquals(START.getEpochSecond(), BUFFER.startEpochSecond(0));
+            assertEquals(START.getNano(), BUFFER.startNano(0));
+            assertEquals(END.getEpochSecond(), BUFFER.endEpochSecond(0));
+            assertEquals(END.getNano(), BUFFER.endNano(0));
+            assertFalse(BUFFER.isStartOnly(0));
+            assertTrue(BUFFER.isStartOnly(1));
+            assertEquals(Long.MAX_VALUE, BUFFER.endEpochSecond(1));
+        }
+
+        @Test
+        @DisplayName("checks containment without creating timespans")
+        void contains() {
+            assertTrue(BUFFER.contains(0, START.getEpochSecond(), START.getNano()));
+            assertFalse(BUFFER.contains(0, END.getEpochSecond(), END.getNano()));
+            assertTrue(BUFFER.contains(1, Instant.MAX.getEpochSecond(), 0));
+            assertFalse(BUFFER.contains(1, START.getEpochSecond(), START.getNano()));
+        }
+
+        @Test
+        @DisplayName("a view can visit every timespan")
+        void view() {
+            final TimespanBuffer.View view = BUFFER.view();
+
+            assertEquals(START, view.moveTo(0).start());
+            assertEquals(Optional.of(END), view.end());
+            assertTrue(view.contains(DURING));
+            assertEquals(TIMESPAN, view.toTimespan());
+
+            assertEquals(Optional.empty(), view.moveTo(1).end());
+            assertTrue(view.isStartOnly());
+            assertEquals(START_ONLY, view.toTimespan());
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "timespan.multi-release", matches = "true")
+    @DisplayName("uses foreign memory from the multi-release JAR on Java 22")
+    void multiRelease() throws ReflectiveOperationException {
+        assumeTrue(Runtime.version().feature() >= 22);
+
+        assertEquals("java.lang.foreign.Arena", BufferMemory.class.getDeclaredField("arena").getType().getName());
+    }
+}
@@ -0,0 +1,250 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.span;
+
+class TimespanMapTest {
+
+    private static Map.Entry<Timespan, String> entry(final Timespan timespan, final String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(timespan, value);
+    }
+
+    private TimespanMap<String> map;
+
+    @BeforeEach
+    void setUp() {
+        map = new TimespanMap<>();
+    }
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        assertThrows(NullPointerException.class, () -> map.put(null, "a"));
+        assertThrows(NullPointerException.class, () -> map.put(span(0, 1), null));
+        assertThrows(NullPointerException.class, () -> map.remove(null));
+        assertThrows(NullPointerException.class, () -> map.get(null));
+    }
+
+    @Test
+    @DisplayName("empty map has no values")
+    void empty() {
+        assertTrue(map.isEmpty());
+        assertNull(map.get(START));
+        assertEquals(List.of(), map.entries());
+    }
+
+    @Test
+    @DisplayName("zero length timespans are not mapped")
+    void zeroLength() {
+        map.put(span(1, 1), "a");
+
+        assertTrue(map.isEmpty());
+    }
+
+    @Nested
+    @DisplayName("Get")
+    class Get {
+
+        @BeforeEach
+        void setUp() {
+            map.put(span(0, 2), "a");
+            map.put(span(3, 4), "b");
+            map.put(Timespan.starting(hours(6)), "c");
+        }
+
+        @Test
+        @DisplayName("includes the start")
+        void start() {
+            assertEquals("a", map.get(hours(0)));
+            assertEquals("b", map.get(hours(3)));
+            assertEquals("c", map.get(hours(6)));
+        }
+
+        @Test
+        @DisplayName("excludes the end")
+        void end() {
+            assertNull(map.get(hours(2)));
+            assertEquals("b", map.get(hours(4).minusNanos(1)));
+            assertNull(map.get(hours(4)));
+        }
+
+        @Test
+        @DisplayName("finds nothing outside every timespan")
+        void outside() {
+            assertNull(map.get(hours(-1)));
+            assertNull(map.get(hours(5)));
+        }
+
+        @Test
+        @DisplayName("open ended timespans extend forever")
+        void startOnly() {
+            assertEquals("c", map.get(Instant.MAX));
+            assertEquals("c", map.get(Instant.MAX.getEpochSecond(), 999_999_999));
+        }
+    }
+
+    @Nested
+    @DisplayName("Put")
+    class Put {
+
+        @Test
+        @DisplayName("keeps entries sorted by start")
+        void sorted() {
+            map.put(span(4, 5), "c");
+            map.put(span(0, 1), "a");
+            map.put(span(2, 3), "b");
+
+            assertEquals(List.of(entry(span(0, 1), "a"), entry(span(2, 3), "b"), entry(span(4, 5), "c")), map.entries());
+        }
+
+        @Test
+        @DisplayName("splits an entry it falls within")
+        void within() {
+            map.put(span(0, 6), "a");
+            map.put(span(2, 4), "b");
+
+            assertEquals(List.of(entry(span(0, 2), "a"), entry(span(2, 4), "b"), entry(span(4, 6), "a")), map.entries());
+        }
+
+        @Test
+        @DisplayName("trims entries it partly overlaps")
+        void partial() {
+            map.put(span(0, 3), "a");
+            map.put(span(4, 8), "b");
+            map.put(span(2, 5), "c");
+
+            assertEquals(List.of(entry(span(0, 2), "a"), entry(span(2, 5), "c"), entry(span(5, 8), "b")), map.entries());
+        }
+
+        @Test
+        @DisplayName("replaces entries it covers")
+        void covers() {
+            map.put(span(1, 2), "a");
+            map.put(span(3, 4), "b");
+            map.put(span(0, 5), "c");
+
+            assertEquals(List.of(entry(span(0, 5), "c")), map.entries());
+        }
+
+        @Test
+        @DisplayName("merges entries which meet and have equal values")
+        void merge() {
+            map.put(span(0, 2), "a");
+            map.put(span(4, 6), "a");
+            map.put(span(2, 4), "a");
+
+            assertEquals(List.of(entry(span(0, 6), "a")), map.entries());
+        }
+
+        @Test
+        @DisplayName("does not merge entries with different values")
+        void noMerge() {
+            map.put(span(0, 2), "a");
+            map.put(span(2, 4), "b");
+
+            assertEquals(2, map.size());
+        }
+
+        @Test
+        @DisplayName("merges into an entry with the same value it falls within")
+        void sameValue() {
+            map.put(span(0, 6), "a");
+            map.put(span(2, 4), "a");
+
+            assertEquals(List.of(entry(span(0, 6), "a")), map.entries());
+        }
+
+        @Test
+        @DisplayName("replaces the tail of an open ended entry")
+        void startOnly() {
+            map.put(Timespan.starting(hours(0)), "a");
+            map.put(Timespan.starting(hours(2)), "b");
+
+            assertEquals(List.of(entry(span(0, 2), "a"), entry(Timespan.starting(hours(2)), "b")), map.entries());
+        }
+    }
+
+    @Nested
+    @DisplayName("Remove")
+    class Remove {
+
+        @Test
+        @DisplayName("splits an entry it falls within")
+        void within() {
+            map.put(span(0, 6), "a");
+            map.remove(span(2, 4));
+
+            assertEquals(List.of(entry(span(0, 2), "a"), entry(span(4, 6), "a")), map.entries());
+            assertNull(map.get(hours(3)));
+        }
+
+        @Test
+        @DisplayName("removes entries it covers")
+        void covers() {
+            map.put(span(1, 2), "a");
+            map.put(span(3, 4), "b");
+            map.remove(span(0, 5));
+
+            assertTrue(map.isEmpty());
+        }
+
+        @Test
+        @DisplayName("clear removes every entry")
+        void clear() {
+            map.put(span(1, 2), "a");
+            map.clear();
+
+            assertTrue(map.isEmpty());
+            assertNull(map.get(hours(1)));
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with painting every hour")
+    void randomised() {
+        final Random random = new Random(12);
+        final String[] painted = new String[64];
+        for (int i = 0; i < 500; i++) {
+            final int start = random.nextInt(64);
+            final int end = start + random.nextInt(64 - start + 1);
+            final String value = random.nextInt(5) == 0 ? null : String.valueOf(random.nextInt(3));
+            if (value == null) {
+                map.remove(span(start, end));
+            } else {
+                map.put(span(start, end), value);
+            }
+            for (int hour = start; hour < end; hour++) {
+                painted[hour] = value;
+            }
+
+            for (int hour = 0; hour < 64; hour++) {
+                assertEquals(painted[hour], map.get(hours(hour)));
+            }
+            final List<Map.Entry<Timespan, String>> entries = map.entries();
+            for (int e = 1; e < entries.size(); e++) {
+                final Map.Entry<Timespan, String> previous = entries.get(e - 1);
+                final Map.Entry<Timespan, String> current = entries.get(e);
+                assertTrue(previous.getKey().end().orElseThrow().compareTo(current.getKey().start()) <= 0);
+                assertTrue(!previous.getKey().end().orElseThrow().equals(current.getKey().start())
+                        || !previous.getValue().equals(current.getValue()));
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.rhyssaldanha.time.collection;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.span;
+
+class TimespanSetTest {
+
+    @Nested
+    class Create {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanSet.of((Timespan[]) null));
+            assertThrows(NullPointerException.class, () -> TimespanSet.of((Timespan) null));
+        }
+
+        @Test
+        @DisplayName("overlapping and adjacent timespans are coalesced")
+        void coalesced() {
+            final TimespanSet set = TimespanSet.of(span(4, 6), span(0, 2), span(1, 3), span(3, 4), span(8, 9));
+
+            assertEquals(List.of(span(0, 6), span(8, 9)), set.timespans());
+            assertEquals(2, set.size());
+        }
+
+        @Test
+        @DisplayName("zero length timespans are dropped")
+        void zeroLengthDropped() {
+            assertTrue(TimespanSet.of(span(1, 1)).isEmpty());
+            assertEquals(TimespanSet.empty(), TimespanSet.of(span(1, 1)));
+        }
+
+        @Test
+        @DisplayName("start-only timespans absorb later timespans")
+        void startOnly() {
+            final TimespanSet set = TimespanSet.of(span(0, 1), Timespan.starting(hours(2)), span(3, 4));
+
+            assertEquals(List.of(span(0, 1), Timespan.starting(hours(2))), set.timespans());
+        }
+    }
+
+    @Nested
+    class Contains {
+        private final TimespanSet SET = TimespanSet.of(span(0, 2), Timespan.starting(hours(4)));
+
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> SET.contains(null));
+        }
+
+        @Test
+        @DisplayName("contains instants in any timespan, start inclusive and end exclusive")
+        void contains() {
+            assertTrue(SET.contains(hours(0)));
+            assertTrue(SET.contains(hours(1)));
+            assertFalse(SET.contains(hours(2)));
+            assertFalse(SET.contains(hours(3)));
+            assertTrue(SET.contains(hours(4)));
+            assertTrue(SET.contains(Instant.MAX));
+            assertFalse(SET.contains(hours(-1)));
+        }
+    }
+
+    @Nested
+    class Operations {
+        private final TimespanSet A = TimespanSet.of(span(0, 4), span(6, 8));
+        private final TimespanSet B = TimespanSet.of(span(2, 7), Timespan.starting(hours(10)));
+
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> A.union(null));
+            assertThrows(NullPointerException.class, () -> A.intersection(null));
+            assertThrows(NullPointerException.class, () -> A.difference(null));
+        }
+
+        @Test
+        @DisplayName("union")
+        void union() {
+            assertEquals(TimespanSet.of(span(0, 8), Timespan.starting(hours(10))), A.union(B));
+            assertEquals(A, A.union(TimespanSet.empty()));
+        }
+
+        @Test
+        @DisplayName("intersection")
+        void intersection() {
+            assertEquals(TimespanSet.of(span(2, 4), span(6, 7)), A.intersection(B));
+            assertEquals(TimespanSet.empty(), A.intersection(TimespanSet.empty()));
+        }
+
+        @Test
+        @DisplayName("difference")
+        void difference() {
+            assertEquals(TimespanSet.of(span(0, 2), span(7, 8)), A.difference(B));
+            assertEquals(TimespanSet.of(span(4, 6), Timespan.starting(hours(10))), B.difference(A));
+        }
+
+        @Test
+        @DisplayName("complement")
+        void complement() {
+            assertEquals(TimespanSet.of(Timespan.of(Instant.MIN, hours(2)), span(7, 10)), B.complement());
+            assertEquals(B, B.complement().complement());
+            assertEquals(TimespanSet.of(Timespan.starting(Instant.MIN)), TimespanSet.empty().complement());
+        }
+
+        @Test
+        @DisplayName("agrees with membership of each operand")
+        void agreesWithMembership() {
+            final Random random = new Random(42);
+            final TimespanSet a = randomSet(random);
+            final TimespanSet b = randomSet(random);
+
+            for (int i = 0; i < 1_000; i++) {
+                final Instant instant = START.plusSeconds(random.nextInt(200_000));
+                assertEquals(a.contains(instant) || b.contains(instant), a.union(b).contains(instant));
+                assertEquals(a.contains(instant) && b.contains(instant), a.intersection(b).contains(instant));
+                assertEquals(a.contains(instant) && !b.contains(instant), a.difference(b).contains(instant));
+                assertEquals(!a.contains(instant), a.complement().contains(instant));
+            }
+        }
+
+        private TimespanSet randomSet(final Random random) {
+            final List<Timespan> timespans = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                timespans.add(Timespan.from(START.plusSeconds(random.nextInt(200_000)), Duration.ofSeconds(random.nextInt(3_000))));
+            }
+            return TimespanSet.of(timespans);
+        }
+    }
+
+    @Test
+    @DisplayName("value-based equality")
+    void valueBasedEquality() {
+        assertEquals(TimespanSet.of(span(0, 1), span(1, 2)), TimespanSet.of(span(0, 2)));
+        assertEquals(TimespanSet.of(span(0, 1), span(1, 2)).hashCode(), TimespanSet.of(span(0, 2)).hashCode());
+    }
+}
@@ -0,0 +1,168 @@
+package org.rhyssaldanha.time.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.rhyssaldanha.time.TimespanFixtures.assertAgreesWithLinearScan;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+import static org.rhyssaldanha.time.TimespanFixtures.span;
+
+class ConcurrentTimespanIndexTest {
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        final ConcurrentTimespanIndex index = new ConcurrentTimespanIndex();
+
+        assertThrows(NullPointerException.class, () -> new ConcurrentTimespanIndex(null));
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(NullPointerException.class, () -> index.addAll(Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> index.remove(null));
+        assertThrows(NullPointerException.class, () -> index.removeAll(Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> index.update(null, List.of()));
+        assertThrows(NullPointerException.class, () -> index.update(List.of(), null));
+        assertThrows(NullPointerException.class, () -> index.containing(null));
+        assertThrows(NullPointerException.class, () -> index.overlapping(null));
+    }
+
+    @Nested
+    @DisplayName("Writes")
+    class Writes {
+        private final ConcurrentTimespanIndex index = new ConcurrentTimespanIndex(List.of(span(0, 4), span(2, 6)));
+
+        @Test
+        @DisplayName("queries see added timespans")
+        void add() {
+            index.add(span(3, 5));
+
+            assertEquals(List.of(span(0, 4), span(2, 6), span(3, 5)), index.containing(hours(3)));
+            assertEquals(3, index.size());
+        }
+
+        @Test
+        @DisplayName("queries do not see removed timespans")
+        void remove() {
+            assertTrue(index.remove(span(0, 4)));
+            assertFalse(index.remove(span(0, 4)));
+
+            assertEquals(List.of(span(2, 6)), index.containing(hours(3)));
+        }
+
+        @Test
+        @DisplayName("removes one occurrence of each timespan")
+        void removeDuplicates() {
+            index.addAll(List.of(span(0, 4), span(0, 4)));
+            index.removeAll(List.of(span(0, 4), span(0, 4), span(7, 8)));
+
+            assertEquals(List.of(span(0, 4), span(2, 6)), index.overlapping(span(0, 6)));
+        }
+
+        @Test
+        @DisplayName("updates add and remove at once")
+        void update() {
+            index.update(List.of(span(1, 2)), List.of(span(2, 6)));
+
+            assertEquals(List.of(span(0, 4), span(1, 2)), index.overlapping(span(0, 6)));
+        }
+
+        @Test
+        @DisplayName("pending changes are merged into the tree")
+        void merge() {
+            for (int i = 0; i <= ConcurrentTimespanIndex.MAX_PENDING; i++) {
+                index.add(span(i, i + 1));
+            }
+            assertTrue(index.remove(span(0, 4)));
+            assertTrue(index.remove(span(3, 4)));
+
+            assertEquals(List.of(span(2, 3), span(2, 6)), index.containing(hours(2)));
+            assertEquals(index.size(), index.snapshot().size());
+            assertEquals(index.snapshot().containing(hours(2)), index.containing(hours(2)));
+        }
+
+        @Test
+        @DisplayName("snapshots are not changed by later writes")
+        void snapshot() {
+            final TimespanIntervalTree snapshot = index.snapshot();
+            index.add(span(3, 5));
+
+            assertEquals(2, snapshot.size());
+            assertEquals(3, index.size());
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with a linear scan after each batch")
+    void agreesWithLinearScan() {
+        final Random random = new Random(42);
+        final Duration range = Duration.ofHours(100);
+        final List<Timespan> expected = new ArrayList<>();
+        final ConcurrentTimespanIndex index = new ConcurrentTimespanIndex();
+
+        for (int batch = 0; batch < 40; batch++) {
+            final List<Timespan> additions = randomTimespans(random, random.nextInt(20), range, Duration.ofHours(5));
+            final List<Timespan> removals = new ArrayList<>();
+            for (int i = random.nextInt(10); i > 0 && !expected.isEmpty(); i--) {
+                removals.add(random.nextInt(4) == 0 ? span(-1, 0) : expected.get(random.nextInt(expected.size())));
+            }
+            index.update(additions, removals);
+            expected.addAll(additions);
+            removals.forEach(expected::remove);
+
+            assertEquals(expected.size(), index.size());
+            assertAgreesWithLinearScan(random, expected, range, Duration.ofHours(2), index::containing, index::overlapping);
+        }
+    }
+
+    @Test
+    @DisplayName("readers see every batch whole while writers update")
+    void concurrent() throws Exception {
+        final ConcurrentTimespanIndex index = new ConcurrentTimespanIndex();
+        final AtomicBoolean writing = new AtomicBoolean(true);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(executor.submit(() -> {
+                    while (writing.get()) {
+                        final int size = index.containing(hours(0)).size();
+                        assertEquals(0, size % 2);
+                    }
+                }));
+            }
+            for (int i = 0; i < 500; i++) {
+                index.addAll(List.of(span(0, 1), span(0, 2)));
+            }
+            for (int i = 0; i < 250; i++) {
+                index.removeAll(List.of(span(0, 1), span(0, 2)));
+            }
+            writing.set(false);
+            for (final Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(500, index.size());
+    }
+}
@@ -0,0 +1,87 @@
+package org.rhyssaldanha.time.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rhyssaldanha.time.TimespanFixtures.assertAgreesWithLinearScan;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+
+class TimespanIntervalTreeTest {
+
+    @Nested
+    class Preconditions {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanIntervalTree.of(null));
+            assertThrows(NullPointerException.class, () -> TimespanIntervalTree.of(Collections.singletonList(null)));
+
+            final TimespanIntervalTree tree = TimespanIntervalTree.of(List.of());
+            assertThrows(NullPointerException.class, () -> tree.containing(null));
+            assertThrows(NullPointerException.class, () -> tree.overlapping(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+        private final Timespan EARLY = Timespan.of(hours(0), hours(2));
+        private final Timespan LATE = Timespan.of(hours(4), hours(6));
+        private final Timespan LONG = Timespan.of(hours(1), hours(5));
+        private final Timespan OPEN = Timespan.starting(hours(3));
+        private final TimespanIntervalTree TREE = TimespanIntervalTree.of(List.of(LATE, OPEN, EARLY, LONG));
+
+        @Test
+        @DisplayName("has a size")
+        void size() {
+            assertEquals(4, TREE.size());
+        }
+
+        @Test
+        @DisplayName("finds timespans containing an instant in start order")
+        void containing() {
+            assertEquals(List.of(EARLY), TREE.containing(hours(0)));
+            assertEquals(List.of(EARLY, LONG), TREE.containing(hours(1)));
+            assertEquals(List.of(LONG, OPEN, LATE), TREE.containing(hours(4)));
+            assertEquals(List.of(), TREE.containing(hours(-1)));
+        }
+
+        @Test
+        @DisplayName("start-only timespans contain every later instant")
+        void containingStartOnly() {
+            assertEquals(List.of(OPEN), TREE.containing(hours(6)));
+            assertEquals(List.of(OPEN), TREE.containing(Instant.MAX));
+        }
+
+        @Test
+        @DisplayName("finds timespans overlapping a timespan in start order")
+        void overlapping() {
+            assertEquals(List.of(EARLY, LONG), TREE.overlapping(Timespan.of(hours(-1), hours(3))));
+            assertEquals(List.of(LONG, OPEN, LATE), TREE.overlapping(Timespan.starting(hours(2))));
+            assertEquals(List.of(OPEN), TREE.overlapping(Timespan.of(hours(6), hours(7))));
+            assertEquals(List.of(), TREE.overlapping(Timespan.of(hours(-2), hours(0))));
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with a linear scan")
+    void agreesWithLinearScan() {
+        final Random random = new Random(42);
+        final Duration range = Duration.ofMillis(1_000_000);
+        final List<Timespan> timespans = randomTimespans(random, 2_000, range, Duration.ofSeconds(20));
+        final TimespanIntervalTree tree = TimespanIntervalTree.of(timespans);
+
+        assertAgreesWithLinearScan(random, timespans, range, Duration.ofSeconds(10), tree::containing, tree::overlapping);
+    }
+}
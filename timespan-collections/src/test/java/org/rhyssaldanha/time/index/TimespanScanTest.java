@@ -0,0 +1,127 @@
+package org.rhyssaldanha.time.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.rhyssaldanha.time.Timespan;
+
+import java.lang.reflect.Field;
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimespanScanTest {
+
+    private static final long OPEN = Long.MAX_VALUE;
+
+    @Nested
+    class Preconditions {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanScan.containing(null, new long[0], 0));
+            assertThrows(NullPointerException.class, () -> TimespanScan.containing(new long[0], null, 0));
+            assertThrows(NullPointerException.class, () -> TimespanScan.containing(new long[0], new long[0], 0, null));
+            assertThrows(NullPointerException.class, () -> TimespanScan.overlapping(null, new long[0], 0, 1));
+            assertThrows(NullPointerException.class, () -> TimespanScan.overlapping(new long[0], null, 0, 1));
+            assertThrows(NullPointerException.class, () -> TimespanScan.overlapping(new long[0], new long[0], 0, 1, null));
+        }
+
+        @Test
+        @DisplayName("arrays must be the same length")
+        void sameLength() {
+            assertThrows(IllegalArgumentException.class, () -> TimespanScan.containing(new long[2], new long[1], 0));
+            assertThrows(IllegalArgumentException.class, () -> TimespanScan.overlapping(new long[2], new long[1], 0, 1));
+        }
+
+        @Test
+        @DisplayName("mask must be long enough")
+        void maskLength() {
+            assertThrows(IllegalArgumentException.class, () -> TimespanScan.containing(new long[65], new long[65], 0, new long[1]));
+            assertThrows(IllegalArgumentException.class, () -> TimespanScan.overlapping(new long[65], new long[65], 0, 1, new long[1]));
+        }
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+        private final long[] STARTS = {0, 10, 20, 5, 30};
+        private final long[] ENDS = {10, 20, 20, OPEN, 40};
+
+        @Test
+        @DisplayName("finds timespans containing an instant")
+        void containing() {
+            assertArrayEquals(new long[]{0b01001}, TimespanScan.containing(STARTS, ENDS, 5));
+            assertArrayEquals(new long[]{0b01010}, TimespanScan.containing(STARTS, ENDS, 10));
+            assertArrayEquals(new long[]{0b01000}, TimespanScan.containing(STARTS, ENDS, 20));
+            assertArrayEquals(new long[]{0b00000}, TimespanScan.containing(STARTS, ENDS, -1));
+        }
+
+        @Test
+        @DisplayName("finds timespans overlapping a timespan")
+        void overlapping() {
+            assertArrayEquals(new long[]{0b01011}, TimespanScan.overlapping(STARTS, ENDS, 9, 11));
+            assertArrayEquals(new long[]{0b11000}, TimespanScan.overlapping(STARTS, ENDS, 20, 35));
+            assertArrayEquals(new long[]{0b00000}, TimespanScan.overlapping(STARTS, ENDS, 12, 12));
+        }
+
+        @Test
+        @DisplayName("fills an existing mask")
+        void existingMask() {
+            final long[] mask = {-1, 7};
+
+            assertEquals(2, TimespanScan.containing(STARTS, ENDS, 5, mask));
+            assertArrayEquals(new long[]{0b01001, 7}, mask);
+            assertEquals(0, TimespanScan.overlapping(STARTS, ENDS, 12, 12, mask));
+            assertArrayEquals(new long[]{0, 7}, mask);
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with timespans")
+    void agreesWithTimespans() {
+        final Random random = new Random(42);
+        final int size = 1_001;
+        final long[] starts = new long[size];
+        final long[] ends = new long[size];
+        final Timespan[] timespans = new Timespan[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = random.nextInt(1_000_000);
+            ends[i] = random.nextInt(50) == 0 ? OPEN : starts[i] + random.nextInt(20_000);
+            timespans[i] = ends[i] == OPEN
+                    ? Timespan.starting(Instant.ofEpochMilli(starts[i]))
+                    : Timespan.of(Instant.ofEpochMilli(starts[i]), Instant.ofEpochMilli(ends[i]));
+        }
+
+        for (int q = 0; q < 500; q++) {
+            final long instant = random.nextInt(1_100_000) - 50_000;
+            final Timespan query = Timespan.of(Instant.ofEpochMilli(instant), Instant.ofEpochMilli(instant + random.nextInt(10_000)));
+            final BitSet expectedContaining = new BitSet();
+            final BitSet expectedOverlapping = new BitSet();
+            for (int i = 0; i < size; i++) {
+                expectedContaining.set(i, timespans[i].contains(Instant.ofEpochMilli(instant)));
+                expectedOverlapping.set(i, timespans[i].overlaps(query));
+            }
+
+            assertEquals(expectedContaining, BitSet.valueOf(TimespanScan.containing(starts, ends, instant)));
+            assertEquals(expectedOverlapping, BitSet.valueOf(TimespanScan.overlapping(starts, ends,
+                    query.start().toEpochMilli(), query.end().orElseThrow().toEpochMilli())));
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "timespan.multi-release", matches = "true")
+    @DisplayName("uses the Vector API from the multi-release JAR")
+    void multiRelease() throws ReflectiveOperationException {
+        final Field vector = ScanKernel.class.getDeclaredField("VECTOR");
+        vector.setAccessible(true);
+
+        assertTrue(vector.getBoolean(null));
+    }
+}
@@ -0,0 +1,160 @@
+package org.rhyssaldanha.time.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rhyssaldanha.time.Timespan;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+import static org.rhyssaldanha.time.TimespanFixtures.assertAgreesWithLinearScan;
+import static org.rhyssaldanha.time.TimespanFixtures.hours;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+import static org.rhyssaldanha.time.TimespanFixtures.seconds;
+
+class TimespanSegmentTest {
+
+    @TempDir
+    Path directory;
+
+    private TimespanSegment segment(final List<Timespan> timespans) throws IOException {
+        final Path path = directory.resolve("timespans.seg");
+        TimespanSegment.write(path, timespans);
+        return TimespanSegment.open(path);
+    }
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() throws IOException {
+        final Path path = directory.resolve("timespans.seg");
+        assertThrows(NullPointerException.class, () -> TimespanSegment.write(null, List.of()));
+        assertThrows(NullPointerException.class, () -> TimespanSegment.write(path, null));
+        assertThrows(NullPointerException.class, () -> TimespanSegment.write(path, Collections.singletonList(null)));
+        assertThrows(NullPointerException.class, () -> TimespanSegment.open(null));
+
+        final TimespanSegment segment = segment(List.of());
+        assertThrows(NullPointerException.class, () -> segment.containing(null));
+        assertThrows(NullPointerException.class, () -> segment.overlapping(null));
+    }
+
+    @Test
+    @DisplayName("empty segment finds nothing")
+    void empty() throws IOException {
+        final TimespanSegment segment = segment(List.of());
+
+        assertEquals(0, segment.size());
+        assertEquals(List.of(), segment.containing(START));
+        assertEquals(List.of(), segment.overlapping(Timespan.starting(START)));
+    }
+
+    @Test
+    @DisplayName("files which are not segments cannot be opened")
+    void malformed() throws IOException {
+        final Path path = directory.resolve("not.seg");
+        Files.write(path, new byte[64]);
+        assertThrows(IOException.class, () -> TimespanSegment.open(path));
+
+        Files.write(path, new byte[3]);
+        assertThrows(IOException.class, () -> TimespanSegment.open(path));
+
+        TimespanSegment.write(path, List.of(Timespan.starting(START)));
+        final byte[] bytes = Files.readAllBytes(path);
+        Files.write(path, Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> TimespanSegment.open(path));
+    }
+
+    @Test
+    @DisplayName("files of an earlier version cannot be opened")
+    void earlierVersion() throws IOException {
+        final Path path = directory.resolve("timespans.seg");
+        TimespanSegment.write(path, List.of(Timespan.starting(START)));
+        final byte[] bytes = Files.readAllBytes(path);
+        bytes[Integer.BYTES] = 2;
+        Files.write(path, bytes);
+
+        assertThrows(IOException.class, () -> TimespanSegment.open(path));
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+
+        @Test
+        @DisplayName("reads back timespans sorted by start then end")
+        void sorted() throws IOException {
+            final TimespanSegment segment = segment(List.of(
+                    Timespan.starting(hours(2)), Timespan.of(hours(0), hours(3)), Timespan.of(hours(0), hours(1))));
+
+            assertEquals(3, segment.size());
+            assertEquals(Timespan.of(hours(0), hours(1)), segment.get(0));
+            assertEquals(Timespan.of(hours(0), hours(3)), segment.get(1));
+            assertEquals(Timespan.starting(hours(2)), segment.get(2));
+            assertThrows(IndexOutOfBoundsException.class, () -> segment.get(3));
+        }
+
+        @Test
+        @DisplayName("matches a linear scan")
+        void matchesLinearScan() throws IOException {
+            final Random random = new Random(42);
+            final Duration range = Duration.ofHours(1_000);
+            final List<Timespan> timespans = new ArrayList<>(randomTimespans(random, 1_800, range, Duration.ofHours(5)));
+            timespans.addAll(randomTimespans(random, 200, range, Duration.ofHours(500)));
+            final TimespanSegment segment = segment(timespans);
+
+            assertAgreesWithLinearScan(random, timespans, range, Duration.ofHours(5), segment::containing, segment::overlapping);
+        }
+
+        @Test
+        @DisplayName("a start-only timespan in the first block does not make queries read every later block")
+        void skipsBlocks() throws IOException {
+            final int blocks = 4;
+            final List<Timespan> timespans = new ArrayList<>();
+            timespans.add(Timespan.starting(seconds(0)));
+            for (int i = 1; i < blocks * TimespanSegment.BLOCK_RECORDS; i++) {
+                timespans.add(Timespan.of(seconds(i), seconds(i + 1)));
+            }
+            final Path path = directory.resolve("timespans.seg");
+            TimespanSegment.write(path, timespans);
+
+            // Stretch the ends of the records in block 1 without changing the footer, so they are only found if the
+            // block is read.
+            final ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+            for (int i = TimespanSegment.BLOCK_RECORDS; i < 2 * TimespanSegment.BLOCK_RECORDS; i++) {
+                bytes.putLong(16 + i * 24 + 8, seconds(1_000).getEpochSecond());
+            }
+            Files.write(path, bytes.array());
+            final TimespanSegment segment = TimespanSegment.open(path);
+
+            final Instant instant = seconds(200).plusMillis(500);
+            assertEquals(List.of(Timespan.starting(seconds(0)), Timespan.of(seconds(200), seconds(201))),
+                    segment.containing(instant));
+            assertEquals(List.of(Timespan.starting(seconds(0)), Timespan.of(seconds(200), seconds(201))),
+                    segment.overlapping(Timespan.of(instant, instant.plusMillis(100))));
+        }
+
+        @Test
+        @DisplayName("handles the extremes of instants")
+        void extremes() throws IOException {
+            final TimespanSegment segment = segment(List.of(
+                    Timespan.of(Instant.MIN, Instant.MAX), Timespan.starting(Instant.MIN), Timespan.of(Instant.MAX, Instant.MAX)));
+
+            assertEquals(List.of(Timespan.of(Instant.MIN, Instant.MAX), Timespan.starting(Instant.MIN)), segment.containing(START));
+            assertEquals(List.of(Timespan.starting(Instant.MIN)), segment.containing(Instant.MAX));
+        }
+    }
+}
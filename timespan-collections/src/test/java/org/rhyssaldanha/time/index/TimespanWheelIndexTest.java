@@ -0,0 +1,113 @@
+package org.rhyssaldanha.time.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.rhyssaldanha.time.TimespanFixtures.START;
+import static org.rhyssaldanha.time.TimespanFixtures.assertAgreesWithLinearScan;
+import static org.rhyssaldanha.time.TimespanFixtures.randomTimespans;
+import static org.rhyssaldanha.time.TimespanFixtures.seconds;
+
+class TimespanWheelIndexTest {
+
+    @Nested
+    class Preconditions {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrows(NullPointerException.class, () -> TimespanWheelIndex.of(null));
+            assertThrows(NullPointerException.class, () -> TimespanWheelIndex.of(Collections.singletonList(null)));
+
+            final TimespanWheelIndex index = TimespanWheelIndex.of(List.of());
+            assertThrows(NullPointerException.class, () -> index.containing(null));
+            assertThrows(NullPointerException.class, () -> index.overlapping(null));
+        }
+    }
+
+    @Nested
+    @DisplayName("Levels")
+    class Levels {
+        @Test
+        @DisplayName("timespans up to a minute go in minute buckets")
+        void minute() {
+            assertEquals(0, TimespanWheelIndex.level(Timespan.of(seconds(10), seconds(20))));
+            assertEquals(0, TimespanWheelIndex.level(Timespan.of(seconds(50), seconds(70))));
+            assertEquals(0, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(60))));
+            assertEquals(0, TimespanWheelIndex.level(Timespan.of(seconds(30), seconds(30))));
+        }
+
+        @Test
+        @DisplayName("longer timespans go in wider buckets")
+        void wider() {
+            assertEquals(1, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(60).plusNanos(1))));
+            assertEquals(1, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(3_600))));
+            assertEquals(2, TimespanWheelIndex.level(Timespan.of(seconds(-10), seconds(3_600))));
+            assertEquals(2, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(86_400))));
+        }
+
+        @Test
+        @DisplayName("timespans longer than a day, or start-only, go in the tree")
+        void overflow() {
+            assertEquals(3, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(86_400).plusNanos(1))));
+            assertEquals(3, TimespanWheelIndex.level(Timespan.of(seconds(0), seconds(2 * 86_400))));
+            assertEquals(3, TimespanWheelIndex.level(Timespan.starting(START)));
+        }
+    }
+
+    @Nested
+    @DisplayName("With timespans")
+    class WithTimespans {
+        private final Timespan SHORT = Timespan.of(seconds(10), seconds(20));
+        private final Timespan CROSSING = Timespan.of(seconds(50), seconds(70));
+        private final Timespan HOURS = Timespan.of(seconds(0), seconds(7_200));
+        private final Timespan DAYS = Timespan.of(seconds(-86_400), seconds(86_400));
+        private final Timespan OPEN = Timespan.starting(seconds(15));
+        private final Timespan EMPTY = Timespan.of(seconds(15), seconds(15));
+        private final TimespanWheelIndex INDEX = TimespanWheelIndex.of(List.of(OPEN, HOURS, SHORT, EMPTY, DAYS, CROSSING));
+
+        @Test
+        @DisplayName("has a size")
+        void size() {
+            assertEquals(6, INDEX.size());
+        }
+
+        @Test
+        @DisplayName("finds timespans containing an instant in start order")
+        void containing() {
+            assertEquals(List.of(DAYS, HOURS, SHORT, OPEN), INDEX.containing(seconds(15)));
+            assertEquals(List.of(DAYS, HOURS, OPEN, CROSSING), INDEX.containing(seconds(60)));
+            assertEquals(List.of(DAYS, OPEN), INDEX.containing(seconds(7_200)));
+            assertEquals(List.of(DAYS), INDEX.containing(seconds(-1)));
+        }
+
+        @Test
+        @DisplayName("finds timespans overlapping a timespan in start order")
+        void overlapping() {
+            assertEquals(List.of(DAYS, HOURS, SHORT, OPEN, CROSSING), INDEX.overlapping(Timespan.of(seconds(15), seconds(55))));
+            assertEquals(List.of(DAYS, HOURS, OPEN), INDEX.overlapping(Timespan.starting(seconds(3_600))));
+            assertEquals(List.of(), INDEX.overlapping(Timespan.of(seconds(15), seconds(15))));
+        }
+    }
+
+    @Test
+    @DisplayName("agrees with a linear scan")
+    void agreesWithLinearScan() {
+        final Random random = new Random(42);
+        final Duration range = Duration.ofMillis(200_000_000);
+        final List<Timespan> timespans = new ArrayList<>(randomTimespans(random, 4_500, range, Duration.ofMinutes(1)));
+        timespans.addAll(randomTimespans(random, 500, range, range));
+        final TimespanWheelIndex index = TimespanWheelIndex.of(timespans);
+
+        assertAgreesWithLinearScan(random, timespans, range, Duration.ofMillis(5_000_000), index::containing, index::overlapping);
+    }
+}
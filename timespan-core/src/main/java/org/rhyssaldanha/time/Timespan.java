@@ -0,0 +1,694 @@
+package org.rhyssaldanha.time;
+
+import org.rhyssaldanha.time.format.IsoDurationParser;
+import org.rhyssaldanha.time.format.IsoInstantFormatter;
+import org.rhyssaldanha.time.format.IsoInstantParser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * This is a value-based class; programmers should treat instances that are
+ * {@linkplain #equals(Object) equal} as interchangeable and should not
+ * use instances for synchronization, or unpredictable behavior may
+ * occur. For example, in a future release, synchronization may fail.
+ * The {@code equals} method should be used for comparisons.
+ */
+public final class Timespan {
+
+    /**
+     * Epoch second used as the end of a start-only timespan.
+     * It is greater than the epoch second of {@link Instant#MAX}, so every instant is before it.
+     */
+    private static final long OPEN_END_SECONDS = Long.MAX_VALUE;
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final int FORMAT_LENGTH = 2 * IsoInstantFormatter.MAX_LENGTH + 1;
+
+    /* Parsing and formatting may happen on any thread, so each thread reuses its own parsers and buffer */
+    private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+    private static final long MIN_SECONDS = Instant.MIN.getEpochSecond();
+    private static final long MAX_SECONDS = Instant.MAX.getEpochSecond();
+    private static final long MIN_EPOCH_NANO_SECONDS = Math.floorDiv(Long.MIN_VALUE, NANOS_PER_SECOND);
+    private static final int MIN_EPOCH_NANO_NANOS = Math.floorMod(Long.MIN_VALUE, NANOS_PER_SECOND);
+    private static final long MAX_EPOCH_NANO_SECONDS = Math.floorDiv(Long.MAX_VALUE, NANOS_PER_SECOND);
+    private static final int MAX_EPOCH_NANO_NANOS = Math.floorMod(Long.MAX_VALUE, NANOS_PER_SECOND);
+
+    private final long startSeconds;
+    private final int startNanos;
+    private final long endSeconds;
+    private final int endNanos;
+    /**
+     * Computed once, as timespans are often used as hash keys. With compressed class pointers the other
+     * fields leave four bytes of padding in a 40 byte object, which this fills, so it costs no memory.
+     */
+    private final int hash;
+
+    public static Timespan of(final Instant start, final Instant end) {
+        requireNonNull(start, "start must not be null");
+        requireNonNull(end, "end must not be null");
+        return create(start.getEpochSecond(), start.getNano(), end.getEpochSecond(), end.getNano());
+    }
+
+    public static Timespan from(final Instant start, final Duration duration) {
+        requireNonNull(start, "start must not be null");
+        requireNonNull(duration, "duration must not be null");
+        return of(start, start.plus(duration));
+    }
+
+    public static Timespan starting(final Instant start) {
+        requireNonNull(start, "start must not be null");
+        return new Timespan(start.getEpochSecond(), start.getNano(), OPEN_END_SECONDS, 0);
+    }
+
+    /**
+     * Obtains a timespan from the epoch second and nano-of-second of its start and end,
+     * without creating an {@link Instant}.
+     *
+     * @throws DateTimeException if either instant is outside the range of {@link Instant}, or end is before start
+     */
+    public static Timespan ofEpochSecond(final long startEpochSecond, final int startNano,
+                                         final long endEpochSecond, final int endNano) {
+        requireValidInstant(startEpochSecond, startNano);
+        requireValidInstant(endEpochSecond, endNano);
+        return create(startEpochSecond, startNano, endEpochSecond, endNano);
+    }
+
+    /**
+     * Obtains a start-only timespan from the epoch second and nano-of-second of its start,
+     * without creating an {@link Instant}.
+     *
+     * @throws DateTimeException if the start is outside the range of {@link Instant}
+     */
+    public static Timespan startingEpochSecond(final long startEpochSecond, final int startNano) {
+        requireValidInstant(startEpochSecond, startNano);
+        return new Timespan(startEpochSecond, startNano, OPEN_END_SECONDS, 0);
+    }
+
+    /**
+     * Obtains a timespan from ISO-8601 interval text, of the form {@code start/end}, {@code start/duration},
+     * or {@code start/..} for a start-only timespan, such as {@code 2020-02-08T09:00:00Z/PT5H}.
+     * <p>
+     * Instants are parsed by an {@link IsoInstantParser} and durations by an {@link IsoDurationParser}, which are
+     * reused by each thread, so common text creates no objects but the timespan.
+     *
+     * @throws DateTimeParseException if the text is not an interval
+     * @throws DateTimeException      if the end is before the start, or outside the range of {@link Instant}
+     */
+    public static Timespan parse(final CharSequence text) {
+        requireNonNull(text, "text must not be null");
+        final int length = text.length();
+        int slash = 0;
+        while (slash < length && text.charAt(slash) != '/') {
+            slash++;
+        }
+        if (slash == length) {
+            throw new DateTimeParseException("interval must be start/end, start/duration or start/..", text, 0);
+        }
+        final Scratch scratch = SCRATCH.get();
+        final IsoInstantParser instant = scratch.instant.parse(text, 0, slash);
+        final long startSeconds = instant.epochSecond();
+        final int startNanos = instant.nano();
+        final int from = slash + 1;
+        if (length - from == 2 && text.charAt(from) == '.' && text.charAt(from + 1) == '.') {
+            return startingEpochSecond(startSeconds, startNanos);
+        }
+        if (isDuration(text, from)) {
+            final IsoDurationParser duration = scratch.duration.parse(text, from, length);
+            if (duration.seconds() < 0) {
+                throw new DateTimeException("end must not be before start");
+            }
+            if (duration.seconds() > MAX_SECONDS - startSeconds) {
+                throw new DateTimeException("instant exceeds minimum or maximum instant");
+            }
+            long endSeconds = startSeconds + duration.seconds();
+            int endNanos = startNanos + duration.nano();
+            if (endNanos >= NANOS_PER_SECOND) {
+                endSeconds++;
+                endNanos -= NANOS_PER_SECOND;
+            }
+            return ofEpochSecond(startSeconds, startNanos, endSeconds, endNanos);
+        }
+        instant.parse(text, from, length);
+        return ofEpochSecond(startSeconds, startNanos, instant.epochSecond(), instant.nano());
+    }
+
+    /**
+     * @return true if the text from an index is a duration, which starts with {@code P} after an optional sign
+     */
+    private static boolean isDuration(final CharSequence text, final int from) {
+        int position = from;
+        if (position < text.length() && (text.charAt(position) == '-' || text.charAt(position) == '+')) {
+            position++;
+        }
+        return position < text.length() && (text.charAt(position) == 'P' || text.charAt(position) == 'p');
+    }
+
+    private static Timespan create(final long startSeconds, final int startNanos,
+                                   final long endSeconds, final int endNanos) {
+        if (compare(endSeconds, endNanos, startSeconds, startNanos) < 0) {
+            throw new DateTimeException("end must not be before start");
+        }
+        return new Timespan(startSeconds, startNanos, endSeconds, endNanos);
+    }
+
+    /**
+     * Obtains a timespan which the caller has already checked, such as one from a {@link TimespanBatchBuilder}.
+     */
+    static Timespan ofValidated(final long startSeconds, final int startNanos,
+                                final long endSeconds, final int endNanos) {
+        return new Timespan(startSeconds, startNanos, endSeconds, endNanos);
+    }
+
+    private static void requireValidInstant(final long epochSecond, final int nano) {
+        requireValidNano(nano);
+        if (epochSecond < MIN_SECONDS || epochSecond > MAX_SECONDS) {
+            throw new DateTimeException("instant exceeds minimum or maximum instant");
+        }
+    }
+
+    private static void requireValidNano(final int nano) {
+        if (nano < 0 || nano >= NANOS_PER_SECOND) {
+            throw new DateTimeException("nano must be between 0 and 999999999");
+        }
+    }
+
+    private static int compare(final long seconds, final int nanos, final long otherSeconds, final int otherNanos) {
+        final int cmp = Long.compare(seconds, otherSeconds);
+        return cmp != 0 ? cmp : nanos - otherNanos;
+    }
+
+    private Timespan(final long startSeconds, final int startNanos, final long endSeconds, final int endNanos) {
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+        this.hash = hash(startSeconds, startNanos, endSeconds, endNanos);
+    }
+
+    private static int hash(final long startSeconds, final int startNanos, final long endSeconds, final int endNanos) {
+        int result = Long.hashCode(startSeconds);
+        result = 31 * result + startNanos;
+        result = 31 * result + Long.hashCode(endSeconds);
+        result = 31 * result + endNanos;
+        return result;
+    }
+
+    public Instant start() {
+        return Instant.ofEpochSecond(startSeconds, startNanos);
+    }
+
+    public Optional<Instant> end() {
+        return isStartOnly() ? Optional.empty() : Optional.of(Instant.ofEpochSecond(endSeconds, endNanos));
+    }
+
+    public boolean isStartOnly() {
+        return endSeconds == OPEN_END_SECONDS;
+    }
+
+    public long startEpochSecond() {
+        return startSeconds;
+    }
+
+    public int startNano() {
+        return startNanos;
+    }
+
+    /**
+     * Gets the epoch second of the end of this timespan.
+     * <p>
+     * A start-only timespan returns {@link Long#MAX_VALUE}, which is after the epoch second of every instant,
+     * so the end of a start-only timespan orders after the end of every other timespan.
+     *
+     * @return the end epoch second, or {@link Long#MAX_VALUE} if this timespan is start-only
+     */
+    public long endEpochSecond() {
+        return endSeconds;
+    }
+
+    /**
+     * Gets the nanosecond within the second of the end of this timespan.
+     *
+     * @return the end nano-of-second, or zero if this timespan is start-only
+     */
+    public int endNano() {
+        return endNanos;
+    }
+
+    public Optional<Duration> duration() {
+        return isStartOnly()
+                ? Optional.empty()
+                : Optional.of(Duration.ofSeconds(endSeconds - startSeconds, (long) endNanos - startNanos));
+    }
+
+    public boolean contains(final Instant instant) {
+        requireNonNull(instant, "instant must not be null");
+        return contains0(instant.getEpochSecond(), instant.getNano());
+    }
+
+    /**
+     * Checks if the instant with the given epoch second and nano-of-second is within this timespan,
+     * without creating an {@link Instant}.
+     *
+     * @param epochSecond the number of seconds from 1970-01-01T00:00:00Z
+     * @param nano        the nanosecond within the second, from 0 to 999,999,999
+     * @return true if this timespan contains the instant
+     * @throws DateTimeException if the nano-of-second is out of range
+     */
+    public boolean contains(final long epochSecond, final int nano) {
+        requireValidNano(nano);
+        return contains0(epochSecond, nano);
+    }
+
+    /**
+     * Checks if the instant with the given epoch millisecond is within this timespan,
+     * without creating an {@link Instant}.
+     *
+     * @param epochMilli the number of milliseconds from 1970-01-01T00:00:00Z
+     * @return true if this timespan contains the instant
+     */
+    public boolean containsEpochMilli(final long epochMilli) {
+        return contains0(Math.floorDiv(epochMilli, 1000), Math.floorMod(epochMilli, 1000) * 1_000_000);
+    }
+
+    private boolean contains0(final long seconds, final int nanos) {
+        return compare(seconds, nanos, startSeconds, startNanos) >= 0
+                && compare(seconds, nanos, endSeconds, endNanos) < 0;
+    }
+
+    /**
+     * Checks, for each instant in an array of epoch nanoseconds, if it is within this timespan.
+     * <p>
+     * The bounds of this timespan are converted to epoch nanoseconds once, so the loop over the
+     * instants is two comparisons per element, with no branches.
+     *
+     * @param epochNanos the instants to check, as nanoseconds from 1970-01-01T00:00:00Z
+     * @param out        set to whether this timespan contains the instant at the same index
+     * @throws IllegalArgumentException if {@code out} is shorter than {@code epochNanos}
+     */
+    public void containsAll(final long[] epochNanos, final boolean[] out) {
+        requireNonNull(epochNanos, "epochNanos must not be null");
+        requireNonNull(out, "out must not be null");
+        if (out.length < epochNanos.length) {
+            throw new IllegalArgumentException("out must not be shorter than epochNanos");
+        }
+        final long first = firstEpochNano();
+        final long last = lastEpochNano();
+        for (int i = 0; i < epochNanos.length; i++) {
+            out[i] = first <= epochNanos[i] & epochNanos[i] <= last;
+        }
+    }
+
+    /**
+     * Checks, for each instant in an array of epoch nanoseconds, if it is within this timespan.
+     *
+     * @param epochNanos the instants to check, as nanoseconds from 1970-01-01T00:00:00Z
+     * @return a set with the index of each instant this timespan contains
+     */
+    public BitSet containsAll(final long[] epochNanos) {
+        requireNonNull(epochNanos, "epochNanos must not be null");
+        final long first = firstEpochNano();
+        final long last = lastEpochNano();
+        final long[] words = new long[(epochNanos.length + 63) >>> 6];
+        for (int i = 0; i < epochNanos.length; i++) {
+            final long contained = (first <= epochNanos[i] & epochNanos[i] <= last) ? 1L : 0L;
+            words[i >>> 6] |= contained << i;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * @return the first epoch nanosecond within this timespan, or {@link Long#MAX_VALUE} if there is none
+     */
+    private long firstEpochNano() {
+        if (!hasEpochNano()) {
+            return Long.MAX_VALUE;
+        }
+        if (compare(startSeconds, startNanos, MIN_EPOCH_NANO_SECONDS, MIN_EPOCH_NANO_NANOS) < 0) {
+            return Long.MIN_VALUE;
+        }
+        return epochNano(startSeconds, startNanos);
+    }
+
+    /**
+     * @return the last epoch nanosecond within this timespan, or {@link Long#MIN_VALUE} if there is none
+     */
+    private long lastEpochNano() {
+        if (!hasEpochNano()) {
+            return Long.MIN_VALUE;
+        }
+        if (compare(endSeconds, endNanos, MAX_EPOCH_NANO_SECONDS, MAX_EPOCH_NANO_NANOS) > 0) {
+            return Long.MAX_VALUE;
+        }
+        return epochNano(endSeconds, endNanos) - 1;
+    }
+
+    /**
+     * @return true if this timespan contains an instant which can be expressed in epoch nanoseconds
+     */
+    private boolean hasEpochNano() {
+        return compare(startSeconds, startNanos, endSeconds, endNanos) < 0
+                && compare(startSeconds, startNanos, MAX_EPOCH_NANO_SECONDS, MAX_EPOCH_NANO_NANOS) <= 0
+                && compare(endSeconds, endNanos, MIN_EPOCH_NANO_SECONDS, MIN_EPOCH_NANO_NANOS) > 0;
+    }
+
+    private static long epochNano(final long seconds, final int nanos) {
+        return seconds < 0
+                ? (seconds + 1) * NANOS_PER_SECOND + nanos - NANOS_PER_SECOND
+                : seconds * NANOS_PER_SECOND + nanos;
+    }
+
+    /**
+     * Checks if this timespan shares at least one instant with another timespan.
+     * <p>
+     * Both timespans are start inclusive and end exclusive, so timespans which only meet at an
+     * instant do not overlap, and a zero length timespan overlaps nothing.
+     *
+     * @param other the timespan to check
+     * @return true if the timespans overlap
+     */
+    public boolean overlaps(final Timespan other) {
+        requireNonNull(other, "other must not be null");
+        return compare(startSeconds, startNanos, other.endSeconds, other.endNanos) < 0
+                && compare(other.startSeconds, other.startNanos, endSeconds, endNanos) < 0
+                && compare(startSeconds, startNanos, endSeconds, endNanos) < 0
+                && compare(other.startSeconds, other.startNanos, other.endSeconds, other.endNanos) < 0;
+    }
+
+    public Timespan to(final Instant end) {
+        requireNonNull(end, "end must not be null");
+        requireContained(end, "end must be within existing timespan");
+        return new Timespan(startSeconds, startNanos, end.getEpochSecond(), end.getNano());
+    }
+
+    public Timespan from(final Instant start) {
+        requireNonNull(start, "start must not be null");
+        requireContained(start, "start must be within existing timespan");
+        return new Timespan(start.getEpochSecond(), start.getNano(), endSeconds, endNanos);
+    }
+
+    /**
+     * Splits this timespan into consecutive timespans of a fixed duration, the last of which is cut short
+     * by the end of this timespan.
+     * <p>
+     * The stream is lazy and knows its size, so it splits evenly when run in parallel.
+     * A zero length timespan gives an empty stream.
+     *
+     * @param step the duration of each timespan
+     * @return the timespans, in order
+     * @throws DateTimeException        if this timespan has no end
+     * @throws IllegalArgumentException if the step is zero or negative
+     * @throws ArithmeticException      if there would be more than {@link Long#MAX_VALUE} timespans
+     */
+    public Stream<Timespan> split(final Duration step) {
+        requireNonNull(step, "step must not be null");
+        if (step.isNegative() || step.isZero()) {
+            throw new IllegalArgumentException("step must be positive");
+        }
+        requireEnd("timespan must have an end to be split");
+        final BigInteger nanos = BigInteger.valueOf(step.getSeconds())
+                .multiply(BigInteger.valueOf(NANOS_PER_SECOND))
+                .add(BigInteger.valueOf(step.getNano()));
+        final long count = lengthInNanos().add(nanos).subtract(BigInteger.ONE).divide(nanos).longValueExact();
+        return StreamSupport.stream(new SplitSpliterator(this, step.getSeconds(), step.getNano(), 0, 1, count), false);
+    }
+
+    /**
+     * Splits this timespan into a number of consecutive timespans of equal duration, to the nanosecond.
+     * Where the duration does not divide evenly, some timespans are a nanosecond longer than others.
+     * <p>
+     * The stream is lazy and knows its size, so it splits evenly when run in parallel.
+     * A zero length timespan gives an empty stream, as with {@link #split(Duration)}.
+     *
+     * @param n the number of timespans
+     * @return the timespans, in order
+     * @throws DateTimeException        if this timespan has no end
+     * @throws IllegalArgumentException if n is zero or negative
+     */
+    public Stream<Timespan> splitInto(final int n) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n must be positive");
+        }
+        requireEnd("timespan must have an end to be split");
+        long seconds = endSeconds - startSeconds;
+        long nanos = endNanos - startNanos;
+        if (nanos < 0) {
+            seconds--;
+            nanos += NANOS_PER_SECOND;
+        }
+        final long remainingNanos = seconds % n * NANOS_PER_SECOND + nanos;
+        final long count = seconds == 0 && nanos == 0 ? 0 : n;
+        return StreamSupport.stream(new SplitSpliterator(
+                this, seconds / n, (int) (remainingNanos / n), remainingNanos % n, n, count), false);
+    }
+
+    /**
+     * Splits this timespan at the start of each local day, week or month in a time zone.
+     * The first and last timespans are cut short by the start and end of this timespan.
+     * <p>
+     * Weeks start on Monday. A local midnight which falls in a gap starts at the end of the gap,
+     * as in {@link java.time.LocalDate#atStartOfDay(ZoneId)}. The offset transitions of each zone are
+     * cached, so no {@link java.time.ZonedDateTime} is created for each boundary.
+     * A zero length timespan gives an empty stream.
+     *
+     * @param zone the time zone of the local calendar
+     * @param unit one of {@link ChronoUnit#DAYS}, {@link ChronoUnit#WEEKS} or {@link ChronoUnit#MONTHS}
+     * @return the timespans, in order
+     * @throws DateTimeException if this timespan has no end, or the unit is not supported
+     */
+    public Stream<Timespan> splitBy(final ZoneId zone, final ChronoUnit unit) {
+        requireNonNull(zone, "zone must not be null");
+        requireNonNull(unit, "unit must not be null");
+        ZoneBoundaries.requireSupported(unit);
+        requireEnd("timespan must have an end to be split");
+        return StreamSupport.stream(new ZonedSpliterator(this, ZoneBoundaries.of(zone), unit), false);
+    }
+
+    private BigInteger lengthInNanos() {
+        return BigInteger.valueOf(endSeconds - startSeconds)
+                .multiply(BigInteger.valueOf(NANOS_PER_SECOND))
+                .add(BigInteger.valueOf((long) endNanos - startNanos));
+    }
+
+    private void requireEnd(final String message) {
+        if (isStartOnly()) {
+            throw new DateTimeException(message);
+        }
+    }
+
+    /**
+     * The timespans between boundaries at {@code start + i * step + floor(i * remainder / divisor)}
+     * nanoseconds, for {@code i} up to {@code count}, where the last boundary is the end of the timespan.
+     * <p>
+     * Each boundary is calculated directly from its index, so the spliterator can split at any index.
+     */
+    private static final class SplitSpliterator implements Spliterator<Timespan> {
+        private final Timespan timespan;
+        private final long stepSeconds;
+        private final int stepNanos;
+        private final long remainder;
+        private final long divisor;
+        private final long count;
+        private long index;
+        private long fence;
+
+        private long boundarySeconds;
+        private int boundaryNanos;
+
+        private SplitSpliterator(final Timespan timespan, final long stepSeconds, final int stepNanos,
+                                 final long remainder, final long divisor, final long count) {
+            this(timespan, stepSeconds, stepNanos, remainder, divisor, count, 0, count);
+        }
+
+        private SplitSpliterator(final Timespan timespan, final long stepSeconds, final int stepNanos,
+                                 final long remainder, final long divisor, final long count,
+                                 final long index, final long fence) {
+            this.timespan = timespan;
+            this.stepSeconds = stepSeconds;
+            this.stepNanos = stepNanos;
+            this.remainder = remainder;
+            this.divisor = divisor;
+            this.count = count;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        private void boundary(final long i) {
+            if (i == count) {
+                boundarySeconds = timespan.endSeconds;
+                boundaryNanos = timespan.endNanos;
+                return;
+            }
+            final long low = (i % NANOS_PER_SECOND) * stepNanos;
+            final long nanos = timespan.startNanos + low % NANOS_PER_SECOND + i * remainder / divisor;
+            boundarySeconds = timespan.startSeconds + stepSeconds * i + (i / NANOS_PER_SECOND) * stepNanos
+                    + low / NANOS_PER_SECOND + Math.floorDiv(nanos, NANOS_PER_SECOND);
+            boundaryNanos = Math.floorMod(nanos, NANOS_PER_SECOND);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Timespan> action) {
+            requireNonNull(action, "action must not be null");
+            if (index >= fence) {
+                return false;
+            }
+            boundary(index);
+            final long seconds = boundarySeconds;
+            final int nanos = boundaryNanos;
+            boundary(++index);
+            action.accept(new Timespan(seconds, nanos, boundarySeconds, boundaryNanos));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(final Consumer<? super Timespan> action) {
+            requireNonNull(action, "action must not be null");
+            if (index >= fence) {
+                return;
+            }
+            boundary(index);
+            while (index < fence) {
+                final long seconds = boundarySeconds;
+                final int nanos = boundaryNanos;
+                boundary(++index);
+                action.accept(new Timespan(seconds, nanos, boundarySeconds, boundaryNanos));
+            }
+        }
+
+        @Override
+        public Spliterator<Timespan> trySplit() {
+            final long mid = (index + fence) >>> 1;
+            if (mid <= index) {
+                return null;
+            }
+            final Spliterator<Timespan> prefix = new SplitSpliterator(
+                    timespan, stepSeconds, stepNanos, remainder, divisor, count, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    private static final class ZonedSpliterator extends Spliterators.AbstractSpliterator<Timespan> {
+        private final Timespan timespan;
+        private final ZoneBoundaries boundaries;
+        private final ChronoUnit unit;
+        private long seconds;
+        private int nanos;
+
+        private ZonedSpliterator(final Timespan timespan, final ZoneBoundaries boundaries, final ChronoUnit unit) {
+            super(Long.MAX_VALUE, ORDERED | NONNULL | IMMUTABLE);
+            this.timespan = timespan;
+            this.boundaries = boundaries;
+            this.unit = unit;
+            this.seconds = timespan.startSeconds;
+            this.nanos = timespan.startNanos;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Timespan> action) {
+            requireNonNull(action, "action must not be null");
+            if (compare(seconds, nanos, timespan.endSeconds, timespan.endNanos) >= 0) {
+                return false;
+            }
+            final long boundary = boundaries.next(seconds, unit);
+            final Timespan next = compare(boundary, 0, timespan.endSeconds, timespan.endNanos) < 0
+                    ? new Timespan(seconds, nanos, boundary, 0)
+                    : new Timespan(seconds, nanos, timespan.endSeconds, timespan.endNanos);
+            seconds = next.endSeconds;
+            nanos = next.endNanos;
+            action.accept(next);
+            return true;
+        }
+    }
+
+    private void requireContained(final Instant instant, final String message) {
+        if (!this.contains(instant)) {
+            throw new DateTimeException(message);
+        }
+    }
+
+    /**
+     * Writes this timespan as ISO-8601 interval text, {@code start/end}, or {@code start/..} if it is start-only,
+     * which {@link #parse(CharSequence)} reads back.
+     *
+     * @param out where to write the text
+     * @throws IOException if the text cannot be written
+     */
+    public void format(final Appendable out) throws IOException {
+        requireNonNull(out, "out must not be null");
+        final char[] buffer = SCRATCH.get().buffer;
+        int length = IsoInstantFormatter.format(startSeconds, startNanos, buffer, 0);
+        buffer[length++] = '/';
+        if (isStartOnly()) {
+            buffer[length++] = '.';
+            buffer[length++] = '.';
+        } else {
+            length = IsoInstantFormatter.format(endSeconds, endNanos, buffer, length);
+        }
+        if (out instanceof StringBuilder) {
+            ((StringBuilder) out).append(buffer, 0, length);
+        } else if (out instanceof Writer) {
+            ((Writer) out).write(buffer, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                out.append(buffer[i]);
+            }
+        }
+    }
+
+    private static final class Scratch {
+        private final IsoInstantParser instant = new IsoInstantParser();
+        private final IsoDurationParser duration = new IsoDurationParser();
+        private final char[] buffer = new char[FORMAT_LENGTH];
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final Timespan timespan = (Timespan) o;
+        return hash == timespan.hash
+                && startSeconds == timespan.startSeconds
+                && startNanos == timespan.startNanos
+                && endSeconds == timespan.endSeconds
+                && endNanos == timespan.endNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "Timespan{" +
+                "start=" + start() +
+                ", end=" + end() +
+                '}';
+    }
+}
@@ -0,0 +1,182 @@
+package org.rhyssaldanha.time;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Creates many {@link Timespan}s from primitive arrays, validating the whole batch in one pass.
+ * <p>
+ * Each timespan is checked as {@link Timespan#ofEpochSecond(long, int, long, int)} would, but with no branches
+ * per timespan, and every invalid timespan is reported by a single {@link TimespanBatchException}. Once a batch
+ * is valid, its timespans are created without checking them again.
+ * <p>
+ * The arrays are copied before they are checked, so later changes to them do not affect the batch.
+ */
+public final class TimespanBatchBuilder {
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    private static final long OPEN_END_SECONDS = Long.MAX_VALUE;
+    private static final long MIN_SECONDS = Instant.MIN.getEpochSecond();
+    private static final long MAX_SECONDS = Instant.MAX.getEpochSecond();
+
+    private final int size;
+    private final long[] startSeconds;
+    private final int[] startNanos;
+    private final long[] endSeconds;
+    private final int[] endNanos;
+    private final long[] startEpochNanos;
+    private final long[] endEpochNanos;
+
+    /**
+     * Validates timespans from the epoch second and nano-of-second of their starts and ends.
+     * An end epoch second of {@link Long#MAX_VALUE}, with an end nano of zero, makes a start-only timespan,
+     * as returned by {@link Timespan#endEpochSecond()}.
+     *
+     * @throws IllegalArgumentException if the arrays are not all the same length
+     * @throws TimespanBatchException   if any instant is outside the range of {@link Instant}, any nano-of-second
+     *                                  is out of range, or any end is before its start
+     */
+    public static TimespanBatchBuilder ofEpochSecond(final long[] startSecondsArray, final int[] startNanosArray,
+                                                     final long[] endSecondsArray, final int[] endNanosArray) {
+        requireNonNull(startSecondsArray, "startSeconds must not be null");
+        requireNonNull(startNanosArray, "startNanos must not be null");
+        requireNonNull(endSecondsArray, "endSeconds must not be null");
+        requireNonNull(endNanosArray, "endNanos must not be null");
+        final int size = startSecondsArray.length;
+        if (startNanosArray.length != size || endSecondsArray.length != size || endNanosArray.length != size) {
+            throw new IllegalArgumentException("arrays must have the same length");
+        }
+        final long[] startSeconds = Arrays.copyOf(startSecondsArray, size);
+        final int[] startNanos = Arrays.copyOf(startNanosArray, size);
+        final long[] endSeconds = Arrays.copyOf(endSecondsArray, size);
+        final int[] endNanos = Arrays.copyOf(endNanosArray, size);
+        boolean invalid = false;
+        for (int i = 0; i < size; i++) {
+            invalid |= isInvalid(startSeconds[i], startNanos[i], endSeconds[i], endNanos[i]);
+        }
+        if (invalid) {
+            int[] indices = new int[8];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (isInvalid(startSeconds[i], startNanos[i], endSeconds[i], endNanos[i])) {
+                    if (count == indices.length) {
+                        indices = Arrays.copyOf(indices, count * 2);
+                    }
+                    indices[count++] = i;
+                }
+            }
+            throw new TimespanBatchException(Arrays.copyOf(indices, count));
+        }
+        return new TimespanBatchBuilder(size, startSeconds, startNanos, endSeconds, endNanos, null, null);
+    }
+
+    /**
+     * Validates timespans from the nanoseconds from 1970-01-01T00:00:00Z of their starts and ends.
+     *
+     * @throws IllegalArgumentException if the arrays are not the same length
+     * @throws TimespanBatchException   if any end is before its start
+     */
+    public static TimespanBatchBuilder ofEpochNano(final long[] startEpochNanosArray, final long[] endEpochNanosArray) {
+        requireNonNull(startEpochNanosArray, "startEpochNanos must not be null");
+        requireNonNull(endEpochNanosArray, "endEpochNanos must not be null");
+        final int size = startEpochNanosArray.length;
+        if (endEpochNanosArray.length != size) {
+            throw new IllegalArgumentException("arrays must have the same length");
+        }
+        final long[] startEpochNanos = Arrays.copyOf(startEpochNanosArray, size);
+        final long[] endEpochNanos = Arrays.copyOf(endEpochNanosArray, size);
+        boolean invalid = false;
+        for (int i = 0; i < size; i++) {
+            invalid |= endEpochNanos[i] < startEpochNanos[i];
+        }
+        if (invalid) {
+            int[] indices = new int[8];
+            int count = 0;
+            for (int i = 0; i < size; i++) {
+                if (endEpochNanos[i] < startEpochNanos[i]) {
+                    if (count == indices.length) {
+                        indices = Arrays.copyOf(indices, count * 2);
+                    }
+                    indices[count++] = i;
+                }
+            }
+            throw new TimespanBatchException(Arrays.copyOf(indices, count));
+        }
+        return new TimespanBatchBuilder(size, null, null, null, null, startEpochNanos, endEpochNanos);
+    }
+
+    /**
+     * Written with non-short-circuit operators, so checking a batch has no branches per timespan.
+     */
+    private static boolean isInvalid(final long startSeconds, final int startNanos,
+                                     final long endSeconds, final int endNanos) {
+        final boolean startOnly = endSeconds == OPEN_END_SECONDS;
+        return startNanos < 0 | startNanos >= NANOS_PER_SECOND
+                | endNanos < 0 | endNanos >= NANOS_PER_SECOND
+                | startSeconds < MIN_SECONDS | startSeconds > MAX_SECONDS
+                | (startOnly ? endNanos != 0 : endSeconds < MIN_SECONDS | endSeconds > MAX_SECONDS)
+                | endSeconds < startSeconds | (endSeconds == startSeconds & endNanos < startNanos);
+    }
+
+    private TimespanBatchBuilder(final int size, final long[] startSeconds, final int[] startNanos,
+                                 final long[] endSeconds, final int[] endNanos,
+                                 final long[] startEpochNanos, final long[] endEpochNanos) {
+        this.size = size;
+        this.startSeconds = startSeconds;
+        this.startNanos = startNanos;
+        this.endSeconds = endSeconds;
+        this.endNanos = endNanos;
+        this.startEpochNanos = startEpochNanos;
+        this.endEpochNanos = endEpochNanos;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long startEpochSecond(final int index) {
+        return startSeconds != null ? startSeconds[index] : Math.floorDiv(startEpochNanos[index], NANOS_PER_SECOND);
+    }
+
+    public int startNano(final int index) {
+        return startNanos != null ? startNanos[index] : Math.floorMod(startEpochNanos[index], NANOS_PER_SECOND);
+    }
+
+    /**
+     * @return the end epoch second, or {@link Long#MAX_VALUE} if the timespan is start-only
+     */
+    public long endEpochSecond(final int index) {
+        return endSeconds != null ? endSeconds[index] : Math.floorDiv(endEpochNanos[index], NANOS_PER_SECOND);
+    }
+
+    /**
+     * @return the end nano-of-second, or zero if the timespan is start-only
+     */
+    public int endNano(final int index) {
+        return endNanos != null ? endNanos[index] : Math.floorMod(endEpochNanos[index], NANOS_PER_SECOND);
+    }
+
+    public boolean isStartOnly(final int index) {
+        return endSeconds != null && endSeconds[index] == OPEN_END_SECONDS;
+    }
+
+    public Timespan get(final int index) {
+        return Timespan.ofValidated(startEpochSecond(index), startNano(index), endEpochSecond(index), endNano(index));
+    }
+
+    public Timespan[] toArray() {
+        final Timespan[] timespans = new Timespan[size];
+        for (int i = 0; i < size; i++) {
+            timespans[i] = get(i);
+        }
+        return timespans;
+    }
+
+    public List<Timespan> toList() {
+        return Collections.unmodifiableList(Arrays.asList(toArray()));
+    }
+}
@@ -0,0 +1,34 @@
+package org.rhyssaldanha.time;
+
+import java.time.DateTimeException;
+import java.util.Arrays;
+
+/**
+ * Thrown when a batch of timespans holds one or more invalid timespans, listing every one of them.
+ */
+public final class TimespanBatchException extends DateTimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_LISTED = 20;
+
+    private final int[] indices;
+
+    TimespanBatchException(final int[] indices) {
+        super(message(indices));
+        this.indices = indices;
+    }
+
+    private static String message(final int[] indices) {
+        final String listed = Arrays.toString(Arrays.copyOf(indices, Math.min(indices.length, MAX_LISTED)));
+        return indices.length + " invalid timespans at indices "
+                + (indices.length > MAX_LISTED ? listed.substring(0, listed.length() - 1) + ", ...]" : listed);
+    }
+
+    /**
+     * @return the index of every invalid timespan in the batch, in ascending order
+     */
+    public int[] indices() {
+        return indices.clone();
+    }
+}
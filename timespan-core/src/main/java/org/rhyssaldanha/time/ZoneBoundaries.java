@@ -0,0 +1,169 @@
+package org.rhyssaldanha.time;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the starts of local days, weeks and months in a time zone, as epoch seconds.
+ * <p>
+ * The offset transitions of each zone are cached in primitive arrays, up to the start of {@link #HORIZON_YEAR},
+ * so finding a boundary is a binary search rather than a trip through {@link java.time.ZonedDateTime}.
+ * Boundaries after that fall back to the {@link ZoneRules} of the zone.
+ * <p>
+ * As with {@link LocalDate#atStartOfDay(ZoneId)}, a local midnight in a gap starts at the end of the gap,
+ * and a local midnight in an overlap starts at the earlier of its two instants.
+ */
+final class ZoneBoundaries {
+
+    private static final int HORIZON_YEAR = 2200;
+    private static final long HORIZON_SECONDS = LocalDate.of(HORIZON_YEAR, 1, 1).toEpochDay() * 86_400;
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final int MAX_OFFSET_SECONDS = ZoneOffset.MAX.getTotalSeconds();
+
+    private static final ConcurrentHashMap<ZoneId, ZoneBoundaries> CACHE = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+    private final long[] transitionSeconds;
+    private final int[] offsetsBefore;
+    private final int[] offsetsAfter;
+    private final int initialOffset;
+
+    static ZoneBoundaries of(final ZoneId zone) {
+        return CACHE.computeIfAbsent(zone, ZoneBoundaries::new);
+    }
+
+    static void requireSupported(final ChronoUnit unit) {
+        if (unit != ChronoUnit.DAYS && unit != ChronoUnit.WEEKS && unit != ChronoUnit.MONTHS) {
+            throw new UnsupportedTemporalTypeException("unit must be DAYS, WEEKS or MONTHS");
+        }
+    }
+
+    private ZoneBoundaries(final ZoneId zone) {
+        this.rules = zone.getRules();
+        long[] seconds = new long[16];
+        int[] before = new int[16];
+        int[] after = new int[16];
+        int size = 0;
+        Instant from = Instant.MIN;
+        ZoneOffsetTransition transition;
+        while ((transition = rules.nextTransition(from)) != null
+                && transition.toEpochSecond() < HORIZON_SECONDS) {
+            if (size == seconds.length) {
+                seconds = Arrays.copyOf(seconds, size * 2);
+                before = Arrays.copyOf(before, size * 2);
+                after = Arrays.copyOf(after, size * 2);
+            }
+            seconds[size] = transition.toEpochSecond();
+            before[size] = transition.getOffsetBefore().getTotalSeconds();
+            after[size] = transition.getOffsetAfter().getTotalSeconds();
+            size++;
+            from = transition.getInstant();
+        }
+        this.transitionSeconds = Arrays.copyOf(seconds, size);
+        this.offsetsBefore = Arrays.copyOf(before, size);
+        this.offsetsAfter = Arrays.copyOf(after, size);
+        this.initialOffset = size > 0 ? before[0] : rules.getOffset(Instant.EPOCH).getTotalSeconds();
+    }
+
+    /**
+     * @return the epoch second of the first start of a local day, week or month which is after the given instant
+     */
+    long next(final long epochSecond, final ChronoUnit unit) {
+        long epochDay = Math.floorDiv(epochSecond + offsetAt(epochSecond), SECONDS_PER_DAY);
+        long boundary;
+        do {
+            epochDay = nextEpochDay(epochDay, unit);
+            boundary = startOfDay(epochDay);
+        } while (boundary <= epochSecond);
+        return boundary;
+    }
+
+    private static long nextEpochDay(final long epochDay, final ChronoUnit unit) {
+        switch (unit) {
+            case DAYS:
+                return epochDay + 1;
+            case WEEKS:
+                // 1970-01-01 was a Thursday, three days after a Monday
+                return epochDay - Math.floorMod(epochDay + 3, 7) + 7;
+            default:
+                return LocalDate.ofEpochDay(epochDay).withDayOfMonth(1).plusMonths(1).toEpochDay();
+        }
+    }
+
+    private int offsetAt(final long epochSecond) {
+        if (epochSecond >= HORIZON_SECONDS) {
+            return rules.getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        }
+        final int index = lastAtOrBefore(epochSecond);
+        return index < 0 ? initialOffset : offsetsAfter[index];
+    }
+
+    private long startOfDay(final long epochDay) {
+        final long local = epochDay * SECONDS_PER_DAY;
+        if (local >= HORIZON_SECONDS - MAX_OFFSET_SECONDS) {
+            return startOfDayFromRules(local);
+        }
+        final int index = lastLocalAtOrBefore(local);
+        if (index < 0) {
+            return local - initialOffset;
+        }
+        final long transition = transitionSeconds[index];
+        final int after = offsetsAfter[index];
+        if (after > offsetsBefore[index] && local < transition + after) {
+            return transition;
+        }
+        return local - after;
+    }
+
+    private long startOfDayFromRules(final long local) {
+        final LocalDateTime dateTime = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC);
+        final ZoneOffsetTransition transition = rules.getTransition(dateTime);
+        if (transition == null) {
+            return local - rules.getOffset(dateTime).getTotalSeconds();
+        }
+        return transition.isGap()
+                ? transition.toEpochSecond()
+                : local - transition.getOffsetBefore().getTotalSeconds();
+    }
+
+    private int lastAtOrBefore(final long epochSecond) {
+        int lo = 0;
+        int hi = transitionSeconds.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (transitionSeconds[mid] <= epochSecond) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+
+    /**
+     * Transitions are months apart, far more than any change in offset, so their local times,
+     * measured with the offset before, are in the same order as their instants.
+     */
+    private int lastLocalAtOrBefore(final long local) {
+        int lo = 0;
+        int hi = transitionSeconds.length;
+        while (lo < hi) {
+            final int mid = (lo + hi) >>> 1;
+            if (transitionSeconds[mid] + offsetsBefore[mid] <= local) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo - 1;
+    }
+}
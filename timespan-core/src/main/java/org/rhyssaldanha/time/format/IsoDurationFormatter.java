@@ -0,0 +1,113 @@
+package org.rhyssaldanha.time.format;
+
+import java.time.Duration;
+
+/**
+ * Formats durations in the same way as {@link Duration#toString()}, from their seconds and nano-of-second,
+ * without creating a {@link Duration} or a {@code String}.
+ */
+public final class IsoDurationFormatter {
+
+    /**
+     * The longest formatted duration, {@code PT-2562047788015215H-30M-7.999999999S}, fits in this many characters.
+     */
+    public static final int MAX_LENGTH = 40;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    private IsoDurationFormatter() {
+    }
+
+    /**
+     * Writes a duration into a buffer, which must have at least {@link #MAX_LENGTH} characters after the offset.
+     *
+     * @param seconds the number of seconds in the duration
+     * @param nano    the nanosecond adjustment to the seconds, from 0 to 999,999,999
+     * @param buffer  the buffer to write to
+     * @param offset  the index of the first character to write
+     * @return the index after the last character written
+     */
+    public static int format(final long seconds, final int nano, final char[] buffer, final int offset) {
+        int position = offset;
+        buffer[position++] = 'P';
+        buffer[position++] = 'T';
+        if (seconds == 0 && nano == 0) {
+            buffer[position++] = '0';
+            buffer[position++] = 'S';
+            return position;
+        }
+
+        final boolean borrow = seconds < 0 && nano > 0;
+        final long effectiveSeconds = borrow ? seconds + 1 : seconds;
+        final long hours = effectiveSeconds / 3600;
+        final int minutes = (int) (effectiveSeconds % 3600 / 60);
+        final int secs = (int) (effectiveSeconds % 60);
+        if (hours != 0) {
+            position = writeLong(hours, buffer, position);
+            buffer[position++] = 'H';
+        }
+        if (minutes != 0) {
+            position = writeLong(minutes, buffer, position);
+            buffer[position++] = 'M';
+        }
+        if (secs == 0 && nano == 0) {
+            return position;
+        }
+        if (borrow && secs == 0) {
+            buffer[position++] = '-';
+            buffer[position++] = '0';
+        } else {
+            position = writeLong(secs, buffer, position);
+        }
+        if (nano > 0) {
+            int fraction = borrow ? NANOS_PER_SECOND - nano : nano;
+            int digits = 9;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            buffer[position++] = '.';
+            for (int i = position + digits - 1; i >= position; i--) {
+                buffer[i] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+            position += digits;
+        }
+        buffer[position++] = 'S';
+        return position;
+    }
+
+    /**
+     * Appends a duration to a string builder.
+     *
+     * @param seconds the number of seconds in the duration
+     * @param nano    the nanosecond adjustment to the seconds, from 0 to 999,999,999
+     * @param builder the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder format(final long seconds, final int nano, final StringBuilder builder) {
+        final char[] buffer = new char[MAX_LENGTH];
+        return builder.append(buffer, 0, format(seconds, nano, buffer, 0));
+    }
+
+    /**
+     * Writes the digits of a signed value, working with negative remainders so that no value overflows.
+     */
+    private static int writeLong(final long value, final char[] buffer, final int offset) {
+        int position = offset;
+        if (value < 0) {
+            buffer[position++] = '-';
+        }
+        final long negative = value < 0 ? value : -value;
+        int digits = 1;
+        for (long remaining = negative / 10; remaining != 0; remaining /= 10) {
+            digits++;
+        }
+        long remaining = negative;
+        for (int i = position + digits - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' - remaining % 10);
+            remaining /= 10;
+        }
+        return position + digits;
+    }
+}
@@ -0,0 +1,170 @@
+package org.rhyssaldanha.time.format;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parses durations written in the same way as {@link Duration#parse(CharSequence)}, into their seconds
+ * and nano-of-second, without creating a {@link Duration}.
+ * <p>
+ * Text of the form {@code P[nD][T[nH][nM][n[.f]S]]} with unsigned numbers is parsed directly.
+ * Anything else, such as signed or lower case text, is delegated to {@link Duration#parse(CharSequence)}.
+ * <p>
+ * A parser holds the result of the last parse, so it can be reused but is not thread-safe.
+ */
+public final class IsoDurationParser {
+
+    /* Multiplier for a fraction with the index number of digits missing */
+    private static final int[] NANO_SCALE = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+    private static final int MAX_DIGITS = 18;
+
+    private long seconds;
+    private int nano;
+
+    /**
+     * @return the whole seconds of the duration, which may be negative
+     */
+    public long seconds() {
+        return seconds;
+    }
+
+    /**
+     * @return the nanoseconds within the second, from 0 to 999,999,999
+     */
+    public int nano() {
+        return nano;
+    }
+
+    public Duration toDuration() {
+        return Duration.ofSeconds(seconds, nano);
+    }
+
+    public IsoDurationParser parse(final CharSequence text) {
+        requireNonNull(text, "text must not be null");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the duration in a range of some text.
+     *
+     * @param text the text to parse
+     * @param from the index of the first character of the duration
+     * @param to   the index after the last character of the duration
+     * @return this parser, holding the parsed duration
+     * @throws DateTimeParseException if the text is not a duration
+     */
+    public IsoDurationParser parse(final CharSequence text, final int from, final int to) {
+        requireNonNull(text, "text must not be null");
+        if (!parseFast(text, from, to)) {
+            final Duration duration = Duration.parse(text.subSequence(from, to));
+            seconds = duration.getSeconds();
+            nano = duration.getNano();
+        }
+        return this;
+    }
+
+    private boolean parseFast(final CharSequence text, final int from, final int to) {
+        if (to - from < 3 || text.charAt(from) != 'P') {
+            return false;
+        }
+        int position = from + 1;
+        long total = 0;
+        int fraction = 0;
+        boolean time = false;
+        boolean any = false;
+        /* The order of the first unit which may still follow, of D, H, M and S */
+        int next = 0;
+        while (position < to) {
+            final char c = text.charAt(position);
+            if (c == 'T') {
+                if (time || position == to - 1) {
+                    return false;
+                }
+                time = true;
+                position++;
+                continue;
+            }
+            final int digitsStart = position;
+            long value = 0;
+            while (position < to && isDigit(text.charAt(position))) {
+                value = value * 10 + (text.charAt(position++) - '0');
+            }
+            final int digits = position - digitsStart;
+            if (digits == 0 || digits > MAX_DIGITS || position == to) {
+                return false;
+            }
+            final char unit = text.charAt(position);
+            if (unit == '.' && time) {
+                int scale = NANO_SCALE.length - 1;
+                position++;
+                while (position < to && isDigit(text.charAt(position))) {
+                    if (scale == 0) {
+                        return false;
+                    }
+                    fraction = fraction * 10 + (text.charAt(position++) - '0');
+                    scale--;
+                }
+                if (position != to - 1 || text.charAt(position) != 'S') {
+                    return false;
+                }
+                fraction *= NANO_SCALE[scale];
+            }
+            final int order = order(text.charAt(position), time);
+            if (order < next) {
+                return false;
+            }
+            next = order + 1;
+            try {
+                total = Math.addExact(total, Math.multiplyExact(value, unitSeconds(order)));
+            } catch (final ArithmeticException e) {
+                return false;
+            }
+            any = true;
+            position++;
+        }
+        if (!any) {
+            return false;
+        }
+        seconds = total;
+        nano = fraction;
+        return true;
+    }
+
+    /**
+     * @return the position of a unit in {@code DHMS}, or {@link Integer#MIN_VALUE} if it is not allowed here
+     */
+    private static int order(final char unit, final boolean time) {
+        if (!time) {
+            return unit == 'D' ? 0 : Integer.MIN_VALUE;
+        }
+        switch (unit) {
+            case 'H':
+                return 1;
+            case 'M':
+                return 2;
+            case 'S':
+                return 3;
+            default:
+                return Integer.MIN_VALUE;
+        }
+    }
+
+    private static long unitSeconds(final int order) {
+        switch (order) {
+            case 0:
+                return 86_400;
+            case 1:
+                return 3_600;
+            case 2:
+                return 60;
+            default:
+                return 1;
+        }
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+}
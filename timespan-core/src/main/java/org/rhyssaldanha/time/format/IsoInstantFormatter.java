@@ -0,0 +1,101 @@
+package org.rhyssaldanha.time.format;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Formats instants in the same way as {@link DateTimeFormatter#ISO_INSTANT}, from their epoch second and
+ * nano-of-second, without creating an {@link Instant} or a {@code String}.
+ * <p>
+ * Years 0000 to 9999 are formatted directly; other years are delegated to {@link Instant#toString()}.
+ */
+public final class IsoInstantFormatter {
+
+    /**
+     * The longest formatted instant, {@code +1000000000-12-31T23:59:59.999999999Z}, fits in this many characters.
+     */
+    public static final int MAX_LENGTH = 40;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    private static final long MIN_FAST_SECONDS = -62_167_219_200L;
+    private static final long MAX_FAST_SECONDS = 253_402_300_799L;
+
+    private IsoInstantFormatter() {
+    }
+
+    /**
+     * Writes an instant into a buffer, which must have at least {@link #MAX_LENGTH} characters after the offset.
+     *
+     * @param epochSecond the number of seconds from 1970-01-01T00:00:00Z
+     * @param nano        the nanosecond within the second, from 0 to 999,999,999
+     * @param buffer      the buffer to write to
+     * @param offset      the index of the first character to write
+     * @return the index after the last character written
+     */
+    public static int format(final long epochSecond, final int nano, final char[] buffer, final int offset) {
+        if (epochSecond < MIN_FAST_SECONDS || epochSecond > MAX_FAST_SECONDS) {
+            final String text = Instant.ofEpochSecond(epochSecond, nano).toString();
+            text.getChars(0, text.length(), buffer, offset);
+            return offset + text.length();
+        }
+
+        final long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        final int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+        final long shiftedDay = epochDay + 719_468;
+        final long era = Math.floorDiv(shiftedDay, 146_097);
+        final int dayOfEra = (int) (shiftedDay - era * 146_097);
+        final int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        final int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        final int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        final int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        final int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        final int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+        int position = offset;
+        position = writeDigits(year, 4, buffer, position);
+        buffer[position++] = '-';
+        position = writeDigits(month, 2, buffer, position);
+        buffer[position++] = '-';
+        position = writeDigits(day, 2, buffer, position);
+        buffer[position++] = 'T';
+        position = writeDigits(secondOfDay / 3600, 2, buffer, position);
+        buffer[position++] = ':';
+        position = writeDigits(secondOfDay / 60 % 60, 2, buffer, position);
+        buffer[position++] = ':';
+        position = writeDigits(secondOfDay % 60, 2, buffer, position);
+        if (nano != 0) {
+            buffer[position++] = '.';
+            if (nano % 1_000_000 == 0) {
+                position = writeDigits(nano / 1_000_000, 3, buffer, position);
+            } else if (nano % 1_000 == 0) {
+                position = writeDigits(nano / 1_000, 6, buffer, position);
+            } else {
+                position = writeDigits(nano, 9, buffer, position);
+            }
+        }
+        buffer[position++] = 'Z';
+        return position;
+    }
+
+    /**
+     * Appends an instant to a string builder.
+     *
+     * @param epochSecond the number of seconds from 1970-01-01T00:00:00Z
+     * @param nano        the nanosecond within the second, from 0 to 999,999,999
+     * @param builder     the builder to append to
+     * @return the builder
+     */
+    public static StringBuilder format(final long epochSecond, final int nano, final StringBuilder builder) {
+        final char[] buffer = new char[MAX_LENGTH];
+        return builder.append(buffer, 0, format(epochSecond, nano, buffer, 0));
+    }
+
+    private static int writeDigits(int value, final int digits, final char[] buffer, final int offset) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + digits;
+    }
+}
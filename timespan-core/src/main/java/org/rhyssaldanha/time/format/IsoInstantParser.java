@@ -0,0 +1,154 @@
+package org.rhyssaldanha.time.format;
+
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Parses instants written in the same way as {@link DateTimeFormatter#ISO_INSTANT}, into their epoch second
+ * and nano-of-second, without creating an {@link Instant}.
+ * <p>
+ * Text of the form {@code yyyy-MM-ddTHH:mm:ss[.SSSSSSSSS]} followed by {@code Z} or an offset
+ * {@code ±HH:mm} is parsed directly. Anything else is delegated to {@link Instant#parse(CharSequence)}.
+ * <p>
+ * A parser holds the result of the last parse, so it can be reused but is not thread-safe.
+ */
+public final class IsoInstantParser {
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    /* Multiplier for a fraction with the index number of digits missing */
+    private static final int[] NANO_SCALE = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+
+    private long epochSecond;
+    private int nano;
+
+    public long epochSecond() {
+        return epochSecond;
+    }
+
+    public int nano() {
+        return nano;
+    }
+
+    public Instant toInstant() {
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    public IsoInstantParser parse(final CharSequence text) {
+        requireNonNull(text, "text must not be null");
+        return parse(text, 0, text.length());
+    }
+
+    /**
+     * Parses the instant in a range of some text.
+     *
+     * @param text the text to parse
+     * @param from the index of the first character of the instant
+     * @param to   the index after the last character of the instant
+     * @return this parser, holding the parsed instant
+     * @throws DateTimeParseException if the text is not an instant
+     */
+    public IsoInstantParser parse(final CharSequence text, final int from, final int to) {
+        requireNonNull(text, "text must not be null");
+        if (!parseFast(text, from, to)) {
+            final Instant instant = Instant.parse(text.subSequence(from, to));
+            epochSecond = instant.getEpochSecond();
+            nano = instant.getNano();
+        }
+        return this;
+    }
+
+    private boolean parseFast(final CharSequence text, final int from, final int to) {
+        if (to - from < 20
+                || text.charAt(from + 4) != '-' || text.charAt(from + 7) != '-' || text.charAt(from + 10) != 'T'
+                || text.charAt(from + 13) != ':' || text.charAt(from + 16) != ':') {
+            return false;
+        }
+        final int year = digits(text, from, 4);
+        final int month = digits(text, from + 5, 2);
+        final int day = digits(text, from + 8, 2);
+        final int hour = digits(text, from + 11, 2);
+        final int minute = digits(text, from + 14, 2);
+        final int second = digits(text, from + 17, 2);
+        if (year < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)
+                || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return false;
+        }
+
+        int position = from + 19;
+        int fraction = 0;
+        if (text.charAt(position) == '.') {
+            int scale = NANO_SCALE.length - 1;
+            position++;
+            while (position < to && scale > 0 && isDigit(text.charAt(position))) {
+                fraction = fraction * 10 + (text.charAt(position++) - '0');
+                scale--;
+            }
+            fraction *= NANO_SCALE[scale];
+        }
+
+        final int offsetSeconds;
+        if (position == to - 1 && text.charAt(position) == 'Z') {
+            offsetSeconds = 0;
+        } else if (position == to - 6 && text.charAt(position + 3) == ':'
+                && (text.charAt(position) == '+' || text.charAt(position) == '-')) {
+            final int offsetHours = digits(text, position + 1, 2);
+            final int offsetMinutes = digits(text, position + 4, 2);
+            if (offsetHours < 0 || offsetHours > 18 || offsetMinutes < 0 || offsetMinutes > 59) {
+                return false;
+            }
+            final int sign = text.charAt(position) == '-' ? -1 : 1;
+            offsetSeconds = sign * (offsetHours * 3600 + offsetMinutes * 60);
+        } else {
+            return false;
+        }
+
+        epochSecond = epochDay(year, month, day) * SECONDS_PER_DAY + hour * 3600 + minute * 60 + second - offsetSeconds;
+        nano = fraction;
+        return true;
+    }
+
+    /**
+     * @return the value of the digits, or a negative number if any character is not a digit
+     */
+    private static int digits(final CharSequence text, final int from, final int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            final char c = text.charAt(i);
+            if (!isDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int lengthOfMonth(final int year, final int month) {
+        switch (month) {
+            case 2:
+                return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static long epochDay(final int year, final int month, final int day) {
+        final int y = month <= 2 ? year - 1 : year;
+        final int era = Math.floorDiv(y, 400);
+        final int yearOfEra = y - era * 400;
+        final int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        final int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146_097L + dayOfEra - 719_468;
+    }
+}
@@ -0,0 +1,139 @@
+package org.rhyssaldanha.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TimespanBatchBuilderTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    @Test
+    @DisplayName("null parameters are invalid")
+    void notNullParameters() {
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochSecond(null, new int[0], new long[0], new int[0]));
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochSecond(new long[0], null, new long[0], new int[0]));
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochSecond(new long[0], new int[0], null, new int[0]));
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochSecond(new long[0], new int[0], new long[0], null));
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochNano(null, new long[0]));
+        assertThrows(NullPointerException.class, () -> TimespanBatchBuilder.ofEpochNano(new long[0], null));
+    }
+
+    @Test
+    @DisplayName("arrays must have the same length")
+    void sameLength() {
+        assertThrows(IllegalArgumentException.class, () -> TimespanBatchBuilder.ofEpochSecond(new long[1], new int[1], new long[1], new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> TimespanBatchBuilder.ofEpochNano(new long[1], new long[2]));
+    }
+
+    @Nested
+    @DisplayName("Epoch seconds")
+    class EpochSeconds {
+
+        @Test
+        @DisplayName("creates timespans, with start-only timespans ending at the greatest epoch second")
+        void create() {
+            final TimespanBatchBuilder batch = TimespanBatchBuilder.ofEpochSecond(
+                    new long[]{START.getEpochSecond(), START.getEpochSecond(), Instant.MIN.getEpochSecond()},
+                    new int[]{0, 5, 0},
+                    new long[]{END.getEpochSecond(), Long.MAX_VALUE, Instant.MAX.getEpochSecond()},
+                    new int[]{1, 0, 999_999_999});
+
+            assertEquals(3, batch.size());
+            assertEquals(List.of(Timespan.of(START, END.plusNanos(1)), Timespan.starting(START.plusNanos(5)), Timespan.of(Instant.MIN, Instant.MAX)),
+                    batch.toList());
+            assertArrayEquals(batch.toList().toArray(), batch.toArray());
+        }
+
+        @Test
+        @DisplayName("reports every invalid timespan at once")
+        void invalid() {
+            final long start = START.getEpochSecond();
+            final TimespanBatchException exception = assertThrows(TimespanBatchException.class, () -> TimespanBatchBuilder.ofEpochSecond(
+                    new long[]{start, start, start, start, Long.MIN_VALUE, start, start, start},
+                    new int[]{0, -1, 0, 5, 0, 0, 0, 0},
+                    new long[]{start, start, start - 1, start, start, Long.MAX_VALUE, Long.MAX_VALUE - 1, start},
+                    new int[]{0, 0, 0, 4, 0, 1, 0, 1_000_000_000}));
+
+            assertArrayEquals(new int[]{1, 2, 3, 4, 5, 6, 7}, exception.indices());
+            assertEquals("7 invalid timespans at indices [1, 2, 3, 4, 5, 6, 7]", exception.getMessage());
+        }
+
+        @Test
+        @DisplayName("later changes to the arrays do not affect the batch")
+        void copiesArrays() {
+            final long[] startSeconds = {START.getEpochSecond()};
+            final int[] startNanos = {0};
+            final long[] endSeconds = {END.getEpochSecond()};
+            final int[] endNanos = {0};
+            final TimespanBatchBuilder batch = TimespanBatchBuilder.ofEpochSecond(startSeconds, startNanos, endSeconds, endNanos);
+            startSeconds[0] = END.getEpochSecond() + 1;
+            startNanos[0] = -1;
+            endSeconds[0] = Long.MIN_VALUE;
+            endNanos[0] = 1_000_000_000;
+
+            assertEquals(Timespan.of(START, END), batch.get(0));
+        }
+
+        @Test
+        @DisplayName("lists only the first invalid indices in the message")
+        void manyInvalid() {
+            final long[] starts = new long[30];
+            Arrays.fill(starts, 1);
+            final TimespanBatchException exception = assertThrows(TimespanBatchException.class, () ->
+                    TimespanBatchBuilder.ofEpochSecond(starts, new int[30], new long[30], new int[30]));
+
+            assertEquals(30, exception.indices().length);
+            assertEquals("30 invalid timespans at indices [0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, ...]",
+                    exception.getMessage());
+        }
+    }
+
+    @Nested
+    @DisplayName("Epoch nanos")
+    class EpochNanos {
+
+        @Test
+        @DisplayName("creates timespans before and after the epoch")
+        void create() {
+            final TimespanBatchBuilder batch = TimespanBatchBuilder.ofEpochNano(new long[]{-1, 0, Long.MIN_VALUE}, new long[]{1, 1_500_000_000, Long.MAX_VALUE});
+
+            assertEquals(List.of(
+                    Timespan.of(Instant.ofEpochSecond(0, -1), Instant.ofEpochSecond(0, 1)),
+                    Timespan.of(Instant.EPOCH, Instant.ofEpochSecond(1, 500_000_000)),
+                    Timespan.of(Instant.EPOCH.plusNanos(Long.MIN_VALUE), Instant.EPOCH.plusNanos(Long.MAX_VALUE))
+            ), batch.toList());
+        }
+
+        @Test
+        @DisplayName("later changes to the arrays do not affect the batch")
+        void copiesArrays() {
+            final long[] starts = {0};
+            final long[] ends = {1};
+            final TimespanBatchBuilder batch = TimespanBatchBuilder.ofEpochNano(starts, ends);
+            starts[0] = 2;
+            ends[0] = -1;
+
+            assertEquals(Timespan.of(Instant.EPOCH, Instant.EPOCH.plusNanos(1)), batch.get(0));
+        }
+
+        @Test
+        @DisplayName("reports every end before its start")
+        void invalid() {
+            final TimespanBatchException exception = assertThrows(TimespanBatchException.class, () ->
+                    TimespanBatchBuilder.ofEpochNano(new long[]{0, 5, 0, 9}, new long[]{0, 4, 1, 8}));
+
+            assertArrayEquals(new int[]{1, 3}, exception.indices());
+        }
+    }
+}
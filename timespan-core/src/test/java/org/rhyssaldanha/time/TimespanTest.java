@@ -0,0 +1,684 @@
+package org.rhyssaldanha.time;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimespanTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Duration DURATION = Duration.ofHours(5);
+    private static final Instant END = START.plus(DURATION);
+
+    @Nested
+    class Create {
+        @Test
+        @DisplayName("can create timespan using start and end instants")
+        void startAndEndInstants() {
+            assertNotNull(Timespan.of(START, END));
+        }
+
+        @Test
+        @DisplayName("can create timespan using start instant and duration")
+        void startInstantAndDuration() {
+            assertNotNull(Timespan.from(START, DURATION));
+        }
+
+        @Test
+        @DisplayName("can create timespan with no defined end")
+        void undefinedEnd() {
+            assertNotNull(Timespan.starting(START));
+        }
+
+        @Test
+        @DisplayName("can create timespan using epoch seconds and nanos")
+        void epochSecondsAndNanos() {
+            assertEquals(Timespan.of(START, END), Timespan.ofEpochSecond(START.getEpochSecond(), START.getNano(), END.getEpochSecond(), END.getNano()));
+            assertEquals(Timespan.starting(START), Timespan.startingEpochSecond(START.getEpochSecond(), START.getNano()));
+        }
+    }
+
+    @Nested
+    class Preconditions {
+        @Test
+        @DisplayName("null parameters are invalid")
+        void notNullParameters() {
+            assertThrowsWithMessage(NullPointerException.class, "start must not be null", () -> Timespan.of(null, END));
+            assertThrowsWithMessage(NullPointerException.class, "end must not be null", () -> Timespan.of(START, null));
+
+            assertThrowsWithMessage(NullPointerException.class, "start must not be null", () -> Timespan.from(null, DURATION));
+            assertThrowsWithMessage(NullPointerException.class, "duration must not be null", () -> Timespan.from(START, null));
+
+            assertThrowsWithMessage(NullPointerException.class, "start must not be null", () -> Timespan.starting(null));
+        }
+
+        @Test
+        @DisplayName("end must come after start")
+        void endMustComeAfterStart() {
+            final Instant invalidEnd = START.minus(Duration.ofDays(10));
+
+            assertThrowsWithMessage(DateTimeException.class, "end must not be before start", () -> Timespan.of(START, invalidEnd));
+            assertThrowsWithMessage(DateTimeException.class, "end must not be before start", () -> Timespan.ofEpochSecond(START.getEpochSecond(), 0, invalidEnd.getEpochSecond(), 0));
+        }
+
+        @Test
+        @DisplayName("epoch seconds and nanos must be within the range of instant")
+        void epochSecondsAndNanosInRange() {
+            assertThrowsWithMessage(DateTimeException.class, "nano must be between 0 and 999999999", () -> Timespan.startingEpochSecond(0, -1));
+            assertThrowsWithMessage(DateTimeException.class, "nano must be between 0 and 999999999", () -> Timespan.ofEpochSecond(0, 0, 1, 1_000_000_000));
+            assertThrowsWithMessage(DateTimeException.class, "instant exceeds minimum or maximum instant", () -> Timespan.startingEpochSecond(Long.MIN_VALUE, 0));
+            assertThrowsWithMessage(DateTimeException.class, "instant exceeds minimum or maximum instant", () -> Timespan.ofEpochSecond(0, 0, Long.MAX_VALUE, 0));
+        }
+
+        @Test
+        @DisplayName("a zero length timespan is valid")
+        void zeroLengthTimespanIsValid() {
+            assertNotNull(Timespan.of(START, START));
+            assertNotNull(Timespan.from(START, Duration.ZERO));
+        }
+    }
+
+    @Nested
+    @DisplayName("ISO-8601 intervals")
+    class Iso {
+        @Test
+        @DisplayName("parses start and end")
+        void parseStartEnd() {
+            assertEquals(Timespan.of(START, END), Timespan.parse("2020-02-08T09:00:00Z/2020-02-08T14:00:00Z"));
+            assertEquals(Timespan.of(START, END), Timespan.parse("2020-02-08T10:00:00+01:00/2020-02-08T14:00:00.000Z"));
+        }
+
+        @Test
+        @DisplayName("parses start and duration")
+        void parseStartDuration() {
+            assertEquals(Timespan.of(START, END), Timespan.parse("2020-02-08T09:00:00Z/PT5H"));
+            assertEquals(Timespan.of(START.plusNanos(500_000_000), END.plusSeconds(1)), Timespan.parse("2020-02-08T09:00:00.5Z/PT5H0.5S"));
+            assertEquals(Timespan.of(START, START.plus(Duration.ofDays(2))), Timespan.parse("2020-02-08T09:00:00Z/P2D"));
+        }
+
+        @Test
+        @DisplayName("parses an open end")
+        void parseStartOnly() {
+            assertEquals(Timespan.starting(START), Timespan.parse("2020-02-08T09:00:00Z/.."));
+        }
+
+        @Test
+        @DisplayName("rejects text which is not an interval")
+        void parseInvalid() {
+            assertThrowsWithMessage(NullPointerException.class, "text must not be null", () -> Timespan.parse(null));
+            assertThrows(DateTimeParseException.class, () -> Timespan.parse("2020-02-08T09:00:00Z"));
+            assertThrows(DateTimeParseException.class, () -> Timespan.parse("2020-02-08T09:00:00Z/"));
+            assertThrows(DateTimeParseException.class, () -> Timespan.parse("/2020-02-08T09:00:00Z"));
+            assertThrows(DateTimeParseException.class, () -> Timespan.parse("2020-02-08T09:00:00Z/..."));
+            assertThrows(DateTimeParseException.class, () -> Timespan.parse("2020-02-08T09:00:00Z/P1M"));
+            assertThrowsWithMessage(DateTimeException.class, "end must not be before start", () -> Timespan.parse("2020-02-08T14:00:00Z/2020-02-08T09:00:00Z"));
+            assertThrowsWithMessage(DateTimeException.class, "end must not be before start", () -> Timespan.parse("2020-02-08T09:00:00Z/-PT1H"));
+            assertThrowsWithMessage(DateTimeException.class, "instant exceeds minimum or maximum instant", () -> Timespan.parse("2020-02-08T09:00:00Z/PT9223372036854775807S"));
+        }
+
+        @Test
+        @DisplayName("formats start and end")
+        void format() throws IOException {
+            final StringBuilder builder = new StringBuilder();
+            Timespan.of(START, END.plusNanos(1_000)).format(builder);
+            assertEquals("2020-02-08T09:00:00Z/2020-02-08T14:00:00.000001Z", builder.toString());
+
+            final StringWriter writer = new StringWriter();
+            Timespan.starting(START).format(writer);
+            assertEquals("2020-02-08T09:00:00Z/..", writer.toString());
+
+            final CharBuffer chars = CharBuffer.allocate(64);
+            Timespan.of(START, END).format(chars);
+            assertEquals("2020-02-08T09:00:00Z/2020-02-08T14:00:00Z", chars.flip().toString());
+        }
+
+        @Test
+        @DisplayName("formatted text parses back")
+        void roundTrip() throws IOException {
+            for (final Timespan timespan : List.of(Timespan.of(START, END), Timespan.starting(START),
+                    Timespan.of(Instant.MIN, Instant.MAX), Timespan.of(START.minusNanos(1), START))) {
+                final StringBuilder builder = new StringBuilder();
+                timespan.format(builder);
+
+                assertEquals(timespan, Timespan.parse(builder));
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("With timespan")
+    class WithTimespan {
+        private final Timespan TIMESPAN = Timespan.of(START, END);
+
+        @Test
+        @DisplayName("a timespan has a duration")
+        void hasDuration() {
+            assertEquals(Optional.of(DURATION), TIMESPAN.duration());
+        }
+
+        @Test
+        @DisplayName("a timespan has a start and an end")
+        void hasStartAndEnd() {
+            assertEquals(START, TIMESPAN.start());
+            assertEquals(Optional.of(END), TIMESPAN.end());
+            assertFalse(TIMESPAN.isStartOnly());
+            assertEquals(END.getEpochSecond(), TIMESPAN.endEpochSecond());
+            assertEquals(END.getNano(), TIMESPAN.endNano());
+        }
+
+        @Nested
+        @DisplayName("Split into a stream")
+        class SplitStream {
+            @Test
+            @DisplayName("invalid parameters")
+            void invalidParameters() {
+                assertThrowsWithMessage(NullPointerException.class, "step must not be null", () -> TIMESPAN.split(null));
+                assertThrowsWithMessage(IllegalArgumentException.class, "step must be positive", () -> TIMESPAN.split(Duration.ZERO));
+                assertThrowsWithMessage(IllegalArgumentException.class, "step must be positive", () -> TIMESPAN.split(Duration.ofHours(-1)));
+                assertThrowsWithMessage(IllegalArgumentException.class, "n must be positive", () -> TIMESPAN.splitInto(0));
+                assertThrows(ArithmeticException.class, () -> Timespan.of(Instant.MIN, Instant.MAX).split(Duration.ofNanos(1)));
+            }
+
+            @Test
+            @DisplayName("splits by a duration which divides evenly")
+            void splitEvenly() {
+                final List<Timespan> expected = List.of(
+                        Timespan.from(START, Duration.ofHours(1)),
+                        Timespan.from(START.plus(Duration.ofHours(1)), Duration.ofHours(1)),
+                        Timespan.from(START.plus(Duration.ofHours(2)), Duration.ofHours(1)),
+                        Timespan.from(START.plus(Duration.ofHours(3)), Duration.ofHours(1)),
+                        Timespan.from(START.plus(Duration.ofHours(4)), Duration.ofHours(1)));
+
+                assertEquals(expected, TIMESPAN.split(Duration.ofHours(1)).collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("cuts the last timespan short")
+            void splitUnevenly() {
+                final List<Timespan> expected = List.of(
+                        Timespan.from(START, Duration.ofHours(2)),
+                        Timespan.from(START.plus(Duration.ofHours(2)), Duration.ofHours(2)),
+                        Timespan.of(START.plus(Duration.ofHours(4)), END));
+
+                assertEquals(expected, TIMESPAN.split(Duration.ofHours(2)).collect(Collectors.toList()));
+                assertEquals(List.of(TIMESPAN), TIMESPAN.split(Duration.ofDays(1)).collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("splits a zero length timespan into nothing")
+            void splitZeroLength() {
+                assertEquals(0, Timespan.of(START, START).split(Duration.ofHours(1)).count());
+                assertEquals(0, Timespan.of(START, START).splitInto(3).count());
+            }
+
+            @Test
+            @DisplayName("splits into equal timespans")
+            void splitInto() {
+                final List<Timespan> expected = List.of(
+                        Timespan.from(START, Duration.ofMinutes(100)),
+                        Timespan.from(START.plus(Duration.ofMinutes(100)), Duration.ofMinutes(100)),
+                        Timespan.of(START.plus(Duration.ofMinutes(200)), END));
+
+                assertEquals(expected, TIMESPAN.splitInto(3).collect(Collectors.toList()));
+                assertEquals(List.of(TIMESPAN), TIMESPAN.splitInto(1).collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("spreads the remainder of an uneven split across timespans")
+            void splitIntoUnevenly() {
+                final Timespan timespan = Timespan.of(START, START.plusNanos(10));
+                final List<Duration> durations = timespan.splitInto(4)
+                        .map(t -> t.duration().orElseThrow())
+                        .collect(Collectors.toList());
+
+                assertEquals(List.of(Duration.ofNanos(2), Duration.ofNanos(3), Duration.ofNanos(2), Duration.ofNanos(3)), durations);
+            }
+
+            @Test
+            @DisplayName("splits the widest timespan")
+            void splitWidest() {
+                final Timespan widest = Timespan.of(Instant.MIN, Instant.MAX);
+                final List<Timespan> parts = widest.splitInto(7).collect(Collectors.toList());
+
+                assertEquals(7, parts.size());
+                assertEquals(Instant.MIN, parts.get(0).start());
+                assertEquals(Optional.of(Instant.MAX), parts.get(6).end());
+                for (int i = 1; i < parts.size(); i++) {
+                    assertEquals(parts.get(i - 1).end(), Optional.of(parts.get(i).start()));
+                }
+            }
+
+            @Test
+            @DisplayName("is sized and splits for parallel streams")
+            void parallel() {
+                final Timespan day = Timespan.from(START, Duration.ofDays(1));
+                final Spliterator<Timespan> spliterator = day.split(Duration.ofSeconds(1)).spliterator();
+
+                assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+                assertEquals(86_400, spliterator.estimateSize());
+                assertEquals(43_200, spliterator.trySplit().estimateSize());
+                assertEquals(43_200, spliterator.estimateSize());
+
+                assertEquals(day.split(Duration.ofSeconds(1)).collect(Collectors.toList()),
+                        day.split(Duration.ofSeconds(1)).parallel().collect(Collectors.toList()));
+            }
+        }
+
+        @Nested
+        @DisplayName("Split by local calendar")
+        class SplitByZone {
+            private final ZoneId LONDON = ZoneId.of("Europe/London");
+
+            @Test
+            @DisplayName("invalid parameters")
+            void invalidParameters() {
+                assertThrowsWithMessage(NullPointerException.class, "zone must not be null", () -> TIMESPAN.splitBy(null, ChronoUnit.DAYS));
+                assertThrowsWithMessage(NullPointerException.class, "unit must not be null", () -> TIMESPAN.splitBy(LONDON, null));
+                assertThrowsWithMessage(UnsupportedTemporalTypeException.class, "unit must be DAYS, WEEKS or MONTHS", () -> TIMESPAN.splitBy(LONDON, ChronoUnit.HOURS));
+            }
+
+            @Test
+            @DisplayName("splits at local midnight")
+            void splitByDays() {
+                final ZoneId newYork = ZoneId.of("America/New_York");
+                final Instant midnight = Instant.parse("2020-02-08T05:00:00Z");
+                final Timespan timespan = Timespan.of(midnight.minus(Duration.ofHours(1)), midnight.plus(Duration.ofDays(1)).plusSeconds(1));
+
+                assertEquals(List.of(
+                        Timespan.of(midnight.minus(Duration.ofHours(1)), midnight),
+                        Timespan.from(midnight, Duration.ofDays(1)),
+                        Timespan.from(midnight.plus(Duration.ofDays(1)), Duration.ofSeconds(1))
+                ), timespan.splitBy(newYork, ChronoUnit.DAYS).collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("a timespan within a day is not split")
+            void withinDay() {
+                assertEquals(List.of(TIMESPAN), TIMESPAN.splitBy(ZoneOffset.UTC, ChronoUnit.DAYS).collect(Collectors.toList()));
+                assertEquals(0, Timespan.of(START, START).splitBy(ZoneOffset.UTC, ChronoUnit.DAYS).count());
+            }
+
+            @Test
+            @DisplayName("local days across daylight saving are not 24 hours long")
+            void daylightSaving() {
+                final Timespan march = Timespan.of(Instant.parse("2020-03-28T00:00:00Z"), Instant.parse("2020-03-29T23:00:00Z"));
+
+                assertEquals(List.of(Duration.ofHours(24), Duration.ofHours(23)), march.splitBy(LONDON, ChronoUnit.DAYS)
+                        .map(t -> t.duration().orElseThrow())
+                        .collect(Collectors.toList()));
+            }
+
+            @Test
+            @DisplayName("matches the start of each local day, week and month in every zone")
+            void matchesZonedDateTime() {
+                final Timespan years = Timespan.of(Instant.parse("2017-06-01T12:34:56.789Z"), Instant.parse("2019-06-01T00:00:00Z"));
+                for (final String id : ZoneId.getAvailableZoneIds()) {
+                    final ZoneId zone = ZoneId.of(id);
+                    for (final ChronoUnit unit : List.of(ChronoUnit.DAYS, ChronoUnit.WEEKS, ChronoUnit.MONTHS)) {
+                        assertEquals(splitWithZonedDateTime(years, zone, unit),
+                                years.splitBy(zone, unit).collect(Collectors.toList()), id + " " + unit);
+                    }
+                }
+            }
+
+            @Test
+            @DisplayName("handles local midnight in a gap and beyond the cached transitions")
+            void edgeCases() {
+                final ZoneId saoPaulo = ZoneId.of("America/Sao_Paulo");
+                final Timespan gap = Timespan.of(Instant.parse("2018-11-03T00:00:00Z"), Instant.parse("2018-11-06T00:00:00Z"));
+                assertEquals(splitWithZonedDateTime(gap, saoPaulo, ChronoUnit.DAYS), gap.splitBy(saoPaulo, ChronoUnit.DAYS).collect(Collectors.toList()));
+
+                final Timespan future = Timespan.of(Instant.parse("2199-01-01T00:00:00Z"), Instant.parse("2201-03-01T00:00:00Z"));
+                assertEquals(splitWithZonedDateTime(future, LONDON, ChronoUnit.DAYS), future.splitBy(LONDON, ChronoUnit.DAYS).collect(Collectors.toList()));
+            }
+
+            private List<Timespan> splitWithZonedDateTime(final Timespan timespan, final ZoneId zone, final ChronoUnit unit) {
+                final List<Timespan> timespans = new ArrayList<>();
+                final Instant end = timespan.end().orElseThrow();
+                Instant from = timespan.start();
+                while (from.isBefore(end)) {
+                    LocalDate date = from.atZone(zone).toLocalDate();
+                    Instant boundary;
+                    do {
+                        date = unit == ChronoUnit.DAYS ? date.plusDays(1)
+                                : unit == ChronoUnit.WEEKS ? date.with(TemporalAdjusters.next(DayOfWeek.MONDAY))
+                                : date.withDayOfMonth(1).plusMonths(1);
+                        boundary = date.atStartOfDay(zone).toInstant();
+                    } while (!boundary.isAfter(from));
+                    final Instant to = boundary.isBefore(end) ? boundary : end;
+                    timespans.add(Timespan.of(from, to));
+                    from = to;
+                }
+                return timespans;
+            }
+        }
+
+        @Nested
+        @DisplayName("With times before, during and after timespan")
+        class WithInstantsOutsideTimespan {
+            private final Instant BEFORE = START.minus(Duration.ofHours(2));
+            private final Instant DURING = START.plus(Duration.ofHours(2));
+            private final Instant AFTER = END.plus(Duration.ofHours(2));
+
+            @Nested
+            class Contains {
+                @Test
+                @DisplayName("null parameters are invalid")
+                void notNullParameters() {
+                    assertThrowsWithMessage(NullPointerException.class, "instant must not be null", () -> TIMESPAN.contains(null));
+                }
+
+                @Test
+                @DisplayName("contains time during timespan")
+                void containsInstant() {
+                    assertTrue(TIMESPAN.contains(DURING));
+                }
+
+                @Test
+                @DisplayName("does not contain times before or after timespan")
+                void doesNotContainInstant() {
+                    assertFalse(TIMESPAN.contains(BEFORE));
+                    assertFalse(TIMESPAN.contains(AFTER));
+                }
+
+                @Test
+                @DisplayName("timespan is start inclusive")
+                void startInclusive() {
+                    assertTrue(TIMESPAN.contains(START));
+                }
+
+                @Test
+                @DisplayName("timespan is end exclusive")
+                void endExclusive() {
+                    assertFalse(TIMESPAN.contains(END));
+                }
+
+                @Test
+                @DisplayName("contains epoch second and nano")
+                void containsEpochSecondAndNano() {
+                    assertTrue(TIMESPAN.contains(START.getEpochSecond(), 0));
+                    assertTrue(TIMESPAN.contains(END.getEpochSecond() - 1, 999_999_999));
+                    assertFalse(TIMESPAN.contains(START.getEpochSecond() - 1, 999_999_999));
+                    assertFalse(TIMESPAN.contains(END.getEpochSecond(), 0));
+                }
+
+                @Test
+                @DisplayName("nano must be within a second")
+                void nanoOutOfRange() {
+                    assertThrowsWithMessage(DateTimeException.class, "nano must be between 0 and 999999999", () -> TIMESPAN.contains(START.getEpochSecond(), -1));
+                    assertThrowsWithMessage(DateTimeException.class, "nano must be between 0 and 999999999", () -> TIMESPAN.contains(START.getEpochSecond(), 1_000_000_000));
+                }
+
+                @Test
+                @DisplayName("contains epoch milli")
+                void containsEpochMilli() {
+                    assertTrue(TIMESPAN.containsEpochMilli(DURING.toEpochMilli()));
+                    assertTrue(TIMESPAN.containsEpochMilli(START.toEpochMilli()));
+                    assertFalse(TIMESPAN.containsEpochMilli(END.toEpochMilli()));
+                    assertFalse(TIMESPAN.containsEpochMilli(BEFORE.toEpochMilli()));
+                }
+
+                @Test
+                @DisplayName("contains negative epoch milli")
+                void containsNegativeEpochMilli() {
+                    final Timespan beforeEpoch = Timespan.of(Instant.ofEpochMilli(-1500), Instant.ofEpochMilli(-500));
+
+                    assertTrue(beforeEpoch.containsEpochMilli(-1500));
+                    assertTrue(beforeEpoch.containsEpochMilli(-501));
+                    assertFalse(beforeEpoch.containsEpochMilli(-500));
+                    assertFalse(beforeEpoch.containsEpochMilli(-1501));
+                }
+            }
+
+            @Nested
+            class ContainsAll {
+                private final long[] EPOCH_NANOS = {
+                        epochNano(BEFORE), epochNano(START) - 1, epochNano(START), epochNano(DURING),
+                        epochNano(END) - 1, epochNano(END), epochNano(AFTER), Long.MIN_VALUE, Long.MAX_VALUE};
+                private final boolean[] EXPECTED = {false, false, true, true, true, false, false, false, false};
+
+                @Test
+                @DisplayName("null parameters are invalid")
+                void notNullParameters() {
+                    assertThrowsWithMessage(NullPointerException.class, "epochNanos must not be null", () -> TIMESPAN.containsAll(null, new boolean[0]));
+                    assertThrowsWithMessage(NullPointerException.class, "out must not be null", () -> TIMESPAN.containsAll(EPOCH_NANOS, null));
+                    assertThrowsWithMessage(NullPointerException.class, "epochNanos must not be null", () -> TIMESPAN.containsAll(null));
+                }
+
+                @Test
+                @DisplayName("out must be long enough")
+                void outTooShort() {
+                    assertThrowsWithMessage(IllegalArgumentException.class, "out must not be shorter than epochNanos", () -> TIMESPAN.containsAll(EPOCH_NANOS, new boolean[1]));
+                }
+
+                @Test
+                @DisplayName("classifies every instant into an array")
+                void containsAllArray() {
+                    final boolean[] actual = new boolean[EPOCH_NANOS.length];
+                    TIMESPAN.containsAll(EPOCH_NANOS, actual);
+
+                    assertArrayEquals(EXPECTED, actual);
+                }
+
+                @Test
+                @DisplayName("classifies every instant into a bit set")
+                void containsAllBitSet() {
+                    final BitSet actual = TIMESPAN.containsAll(EPOCH_NANOS);
+
+                    for (int i = 0; i < EPOCH_NANOS.length; i++) {
+                        assertEquals(EXPECTED[i], actual.get(i));
+                    }
+                }
+
+                @Test
+                @DisplayName("handles timespans beyond the range of epoch nanoseconds")
+                void beyondEpochNanos() {
+                    final long[] extremes = {Long.MIN_VALUE, 0, Long.MAX_VALUE};
+
+                    assertEquals(BitSet.valueOf(new long[]{0b111}), Timespan.starting(Instant.MIN).containsAll(extremes));
+                    assertEquals(BitSet.valueOf(new long[]{0b110}), Timespan.starting(Instant.EPOCH).containsAll(extremes));
+                    assertEquals(BitSet.valueOf(new long[]{0b011}), Timespan.of(Instant.MIN, Instant.ofEpochSecond(0, 1)).containsAll(extremes));
+                    assertEquals(new BitSet(), Timespan.of(Instant.MIN, Instant.ofEpochSecond(Long.MIN_VALUE / 1_000_000_000 - 1)).containsAll(extremes));
+                    assertEquals(new BitSet(), Timespan.starting(Instant.MAX).containsAll(extremes));
+                    assertEquals(new BitSet(), Timespan.of(Instant.EPOCH, Instant.EPOCH).containsAll(extremes));
+                }
+
+                private long epochNano(final Instant instant) {
+                    return instant.getEpochSecond() * 1_000_000_000 + instant.getNano();
+                }
+            }
+
+            @Nested
+            class Overlaps {
+                @Test
+                @DisplayName("null parameters are invalid")
+                void notNullParameters() {
+                    assertThrowsWithMessage(NullPointerException.class, "other must not be null", () -> TIMESPAN.overlaps(null));
+                }
+
+                @Test
+                @DisplayName("overlaps timespans sharing an instant")
+                void overlaps() {
+                    assertTrue(TIMESPAN.overlaps(TIMESPAN));
+                    assertTrue(TIMESPAN.overlaps(Timespan.of(BEFORE, DURING)));
+                    assertTrue(TIMESPAN.overlaps(Timespan.of(DURING, AFTER)));
+                    assertTrue(TIMESPAN.overlaps(Timespan.of(BEFORE, AFTER)));
+                    assertTrue(TIMESPAN.overlaps(Timespan.starting(BEFORE)));
+                    assertTrue(Timespan.starting(BEFORE).overlaps(TIMESPAN));
+                }
+
+                @Test
+                @DisplayName("does not overlap adjacent or disjoint timespans")
+                void doesNotOverlap() {
+                    assertFalse(TIMESPAN.overlaps(Timespan.of(BEFORE, START)));
+                    assertFalse(TIMESPAN.overlaps(Timespan.of(END, AFTER)));
+                    assertFalse(TIMESPAN.overlaps(Timespan.starting(END)));
+                    assertFalse(TIMESPAN.overlaps(Timespan.of(DURING, DURING)));
+                }
+            }
+
+            @Nested
+            class Split {
+                @Test
+                @DisplayName("null parameters are invalid")
+                void notNullParameters() {
+                    assertThrowsWithMessage(NullPointerException.class, "end must not be null", () -> TIMESPAN.to(null));
+                    assertThrowsWithMessage(NullPointerException.class, "start must not be null", () -> TIMESPAN.from(null));
+                }
+
+                @Test
+                @DisplayName("can be split with a time during timespan")
+                void canSplit() {
+                    assertEquals(Timespan.of(DURING, END), TIMESPAN.from(DURING));
+                    assertEquals(Timespan.of(START, DURING), TIMESPAN.to(DURING));
+                }
+
+                @Test
+                @DisplayName("cannot be split if time is outside timespan")
+                void cannotSplit() {
+                    assertThrowsWithMessage(DateTimeException.class, "start must be within existing timespan", () -> TIMESPAN.from(BEFORE));
+                    assertThrowsWithMessage(DateTimeException.class, "start must be within existing timespan", () -> TIMESPAN.from(AFTER));
+
+                    assertThrowsWithMessage(DateTimeException.class, "end must be within existing timespan", () -> TIMESPAN.to(BEFORE));
+                    assertThrowsWithMessage(DateTimeException.class, "end must be within existing timespan", () -> TIMESPAN.to(AFTER));
+                }
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("With start-only timespan")
+    class WithStartTimespan {
+        private final Timespan TIMESPAN = Timespan.starting(START);
+
+        @Test
+        @DisplayName("timespan has no duration")
+        void hasDuration() {
+            assertEquals(Optional.empty(), TIMESPAN.duration());
+        }
+
+        @Test
+        @DisplayName("timespan has a start and no end")
+        void hasStartAndNoEnd() {
+            assertEquals(START, TIMESPAN.start());
+            assertEquals(Optional.empty(), TIMESPAN.end());
+            assertTrue(TIMESPAN.isStartOnly());
+            assertEquals(Long.MAX_VALUE, TIMESPAN.endEpochSecond());
+        }
+
+        @Test
+        @DisplayName("timespan cannot be split into a stream")
+        void cannotSplitStream() {
+            assertThrowsWithMessage(DateTimeException.class, "timespan must have an end to be split", () -> TIMESPAN.split(Duration.ofHours(1)));
+            assertThrowsWithMessage(DateTimeException.class, "timespan must have an end to be split", () -> TIMESPAN.splitInto(2));
+            assertThrowsWithMessage(DateTimeException.class, "timespan must have an end to be split", () -> TIMESPAN.splitBy(ZoneOffset.UTC, ChronoUnit.DAYS));
+        }
+
+        @Nested
+        @DisplayName("With times before and after start")
+        class WithInstantsOutsideTimespan {
+            private final Instant BEFORE = START.minus(Duration.ofHours(2));
+            private final Instant DURING = START.plus(Duration.ofHours(2));
+
+            @Nested
+            class Contains {
+                @Test
+                @DisplayName("contains time after start")
+                void containsInstant() {
+                    assertTrue(TIMESPAN.contains(DURING));
+                }
+
+                @Test
+                @DisplayName("does not contain time before start")
+                void doesNotContainInstant() {
+                    assertFalse(TIMESPAN.contains(BEFORE));
+                }
+            }
+
+            @Nested
+            class Split {
+                @Test
+                @DisplayName("null parameters are invalid")
+                void notNullParameters() {
+                    assertThrowsWithMessage(NullPointerException.class, "end must not be null", () -> TIMESPAN.to(null));
+                    assertThrowsWithMessage(NullPointerException.class, "start must not be null", () -> TIMESPAN.from(null));
+                }
+
+                @Test
+                @DisplayName("timespan can be split")
+                void canSplit() {
+                    assertEquals(Timespan.starting(DURING), TIMESPAN.from(DURING));
+                    assertEquals(Timespan.of(START, DURING), TIMESPAN.to(DURING));
+                }
+
+                @Test
+                @DisplayName("cannot split if instant is outside timespan")
+                void cannotSplit() {
+                    assertThrowsWithMessage(DateTimeException.class, "start must be within existing timespan", () -> TIMESPAN.from(BEFORE));
+                    assertThrowsWithMessage(DateTimeException.class, "end must be within existing timespan", () -> TIMESPAN.to(BEFORE));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("value-based equality")
+    void valueBasedEquality() {
+        assertEquals(Timespan.of(START, END), Timespan.of(START, END));
+        assertEquals(Timespan.of(START, END), Timespan.from(START, DURATION));
+        assertEquals(Timespan.starting(START), Timespan.starting(START));
+    }
+
+    @Test
+    @DisplayName("equal timespans have equal hash codes")
+    void valueBasedHashCode() {
+        assertEquals(Timespan.of(START, END).hashCode(), Timespan.from(START, DURATION).hashCode());
+        assertEquals(Timespan.starting(START).hashCode(), Timespan.starting(START).hashCode());
+        assertNotEquals(Timespan.of(START, END), Timespan.starting(START));
+    }
+
+    @Test
+    @DisplayName("timespans with equal hash codes are not necessarily equal")
+    void hashCollision() {
+        final Timespan timespan = Timespan.ofEpochSecond(0, 31, 10, 0);
+        final Timespan colliding = Timespan.ofEpochSecond(1, 0, 10, 0);
+
+        assertEquals(timespan.hashCode(), colliding.hashCode());
+        assertNotEquals(timespan, colliding);
+    }
+
+    private static <T extends Throwable> void assertThrowsWithMessage(final Class<T> expectedType, final String expectedMessage, final Executable delegate) {
+        final T exception = assertThrows(expectedType, delegate);
+        assertEquals(expectedMessage, exception.getMessage());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package org.rhyssaldanha.time.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsoDurationFormatterTest {
+
+    @Test
+    @DisplayName("formats hours, minutes and seconds")
+    void units() {
+        assertEquals("PT0S", format(Duration.ZERO));
+        assertEquals("PT5H", format(Duration.ofHours(5)));
+        assertEquals("PT1H1M1S", format(Duration.ofSeconds(3_661)));
+        assertEquals("PT0.5S", format(Duration.ofMillis(500)));
+        assertEquals("PT0.000000001S", format(Duration.ofNanos(1)));
+        assertEquals("PT-0.5S", format(Duration.ofMillis(-500)));
+        assertEquals("PT-1M-0.5S", format(Duration.ofMillis(-60_500)));
+    }
+
+    @Test
+    @DisplayName("formats the extremes of durations")
+    void extremes() {
+        final Duration min = Duration.ofSeconds(Long.MIN_VALUE);
+        final Duration max = Duration.ofSeconds(Long.MAX_VALUE, 999_999_999);
+
+        assertEquals(min.toString(), format(min));
+        assertEquals(max.toString(), format(max));
+        assertTrue(format(Duration.ofSeconds(Long.MIN_VALUE, 1)).length() <= IsoDurationFormatter.MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("agrees with Duration.toString")
+    void agreesWithDuration() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final long seconds = random.nextBoolean() ? random.nextInt(200_000) - 100_000 : random.nextLong();
+            final Duration duration = Duration.ofSeconds(seconds, random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000_000));
+            assertEquals(duration.toString(), format(duration));
+        }
+    }
+
+    private static String format(final Duration duration) {
+        return IsoDurationFormatter.format(duration.getSeconds(), duration.getNano(), new StringBuilder()).toString();
+    }
+}
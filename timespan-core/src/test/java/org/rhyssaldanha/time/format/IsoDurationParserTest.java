@@ -0,0 +1,68 @@
+package org.rhyssaldanha.time.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoDurationParserTest {
+
+    private final IsoDurationParser parser = new IsoDurationParser();
+
+    @Test
+    @DisplayName("parses durations with each unit")
+    void parse() {
+        for (final String text : List.of("PT5H", "P1D", "P2DT3H4M5S", "PT0S", "PT1.5S", "PT0.000000001S", "PT10M",
+                "P1DT1.S", "PT1.S", "PT1,5S", "PT24H", "P106751991167300DT15H30M7.999999999S")) {
+            assertEquals(Duration.parse(text), parser.parse(text).toDuration(), text);
+        }
+    }
+
+    @Test
+    @DisplayName("delegates signed and lower case durations")
+    void delegates() {
+        for (final String text : List.of("-PT5H", "PT-5H", "+P1D", "pt5h", "PT-0.5S")) {
+            final IsoDurationParser parsed = parser.parse(text);
+
+            assertEquals(Duration.parse(text), parsed.toDuration(), text);
+            assertEquals(Duration.parse(text).getSeconds(), parsed.seconds(), text);
+            assertEquals(Duration.parse(text).getNano(), parsed.nano(), text);
+        }
+    }
+
+    @Test
+    @DisplayName("parses a range of some text")
+    void range() {
+        final String text = "[PT5H]";
+
+        assertEquals(Duration.ofHours(5), parser.parse(text, 1, text.length() - 1).toDuration());
+    }
+
+    @Test
+    @DisplayName("rejects text which is not a duration")
+    void invalid() {
+        assertThrows(NullPointerException.class, () -> parser.parse(null));
+        for (final String text : List.of("", "P", "PT", "P1DT", "PT1H1H", "PT1M1H", "P1H", "PT1D", "P1.5D",
+                "P1Y", "PT1.1234567891S", "PT9999999999999999999S")) {
+            assertThrows(DateTimeParseException.class, () -> parser.parse(text), text);
+        }
+    }
+
+    @Test
+    @DisplayName("matches Duration.parse for random durations")
+    void random() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final Duration duration = Duration.ofSeconds(random.nextInt(Integer.MAX_VALUE), random.nextInt(3) == 0 ? random.nextInt(1_000_000_000) : 0);
+            final String text = duration.toString();
+
+            assertEquals(duration, parser.parse(text).toDuration(), text);
+        }
+    }
+}
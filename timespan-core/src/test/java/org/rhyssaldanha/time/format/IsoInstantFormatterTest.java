@@ -0,0 +1,44 @@
+package org.rhyssaldanha.time.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class IsoInstantFormatterTest {
+
+    @Test
+    @DisplayName("formats fractions in groups of three digits")
+    void fractions() {
+        assertEquals("2020-02-08T09:00:00Z", format(Instant.parse("2020-02-08T09:00:00Z")));
+        assertEquals("2020-02-08T09:00:00.500Z", format(Instant.parse("2020-02-08T09:00:00.5Z")));
+        assertEquals("2020-02-08T09:00:00.000001Z", format(Instant.parse("2020-02-08T09:00:00.000001Z")));
+        assertEquals("2020-02-08T09:00:00.000000001Z", format(Instant.parse("2020-02-08T09:00:00.000000001Z")));
+    }
+
+    @Test
+    @DisplayName("formats years outside 0000 to 9999")
+    void outsideFastRange() {
+        assertEquals(Instant.MIN.toString(), format(Instant.MIN));
+        assertEquals(Instant.MAX.toString(), format(Instant.MAX));
+        assertEquals("0000-01-01T00:00:00Z", format(Instant.parse("0000-01-01T00:00:00Z")));
+        assertEquals("9999-12-31T23:59:59.999999999Z", format(Instant.parse("9999-12-31T23:59:59.999999999Z")));
+    }
+
+    @Test
+    @DisplayName("agrees with Instant.toString")
+    void agreesWithInstant() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final Instant instant = Instant.ofEpochSecond(random.nextLong() % 253_402_300_800L, random.nextInt(1_000_000_000));
+            assertEquals(instant.toString(), format(instant));
+        }
+    }
+
+    private static String format(final Instant instant) {
+        return IsoInstantFormatter.format(instant.getEpochSecond(), instant.getNano(), new StringBuilder()).toString();
+    }
+}
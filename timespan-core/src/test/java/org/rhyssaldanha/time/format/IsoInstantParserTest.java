@@ -0,0 +1,69 @@
+package org.rhyssaldanha.time.format;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IsoInstantParserTest {
+
+    private final IsoInstantParser parser = new IsoInstantParser();
+
+    @Test
+    @DisplayName("parses instants with and without fractions")
+    void parse() {
+        assertEquals(Instant.parse("2020-02-08T09:00:00Z"), parser.parse("2020-02-08T09:00:00Z").toInstant());
+        assertEquals(Instant.parse("2020-02-08T09:00:00.5Z"), parser.parse("2020-02-08T09:00:00.5Z").toInstant());
+        assertEquals(Instant.parse("2020-02-08T09:00:00.123456789Z"), parser.parse("2020-02-08T09:00:00.123456789Z").toInstant());
+        assertEquals(Instant.parse("1969-12-31T23:59:59.999Z"), parser.parse("1969-12-31T23:59:59.999Z").toInstant());
+        assertEquals(Instant.parse("2020-02-08T09:00:00.Z"), parser.parse("2020-02-08T09:00:00.Z").toInstant());
+    }
+
+    @Test
+    @DisplayName("parses instants with offsets")
+    void offsets() {
+        assertEquals(Instant.parse("2020-02-08T08:00:00Z"), parser.parse("2020-02-08T09:00:00+01:00").toInstant());
+        assertEquals(Instant.parse("2020-02-08T10:30:00Z"), parser.parse("2020-02-08T09:00:00-01:30").toInstant());
+    }
+
+    @Test
+    @DisplayName("parses a range of some text")
+    void range() {
+        final String text = "[2020-02-08T09:00:00Z]";
+
+        assertEquals(Instant.parse("2020-02-08T09:00:00Z"), parser.parse(text, 1, text.length() - 1).toInstant());
+    }
+
+    @Test
+    @DisplayName("parses years outside 0000 to 9999")
+    void outsideFastRange() {
+        assertEquals(Instant.MIN, parser.parse(Instant.MIN.toString()).toInstant());
+        assertEquals(Instant.MAX, parser.parse(Instant.MAX.toString()).toInstant());
+    }
+
+    @Test
+    @DisplayName("rejects invalid instants")
+    void invalid() {
+        assertThrows(NullPointerException.class, () -> parser.parse(null));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("bogus"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2020-02-30T09:00:00Z"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2020-02-08T25:00:00Z"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2020-02-08T09:00:00.1234567891Z"));
+        assertThrows(DateTimeParseException.class, () -> parser.parse("2020-02-08T09:00:00"));
+    }
+
+    @Test
+    @DisplayName("agrees with Instant.parse")
+    void agreesWithInstant() {
+        final Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            final Instant instant = Instant.ofEpochSecond(random.nextLong() % 253_402_300_800L, random.nextInt(1_000_000_000));
+            assertEquals(instant, parser.parse(instant.toString()).toInstant());
+        }
+    }
+}
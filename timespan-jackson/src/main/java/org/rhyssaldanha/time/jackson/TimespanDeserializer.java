@@ -0,0 +1,141 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.format.IsoInstantParser;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+import static com.fasterxml.jackson.databind.DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS;
+
+/**
+ * Reads a {@link Timespan} token by token, parsing its instants straight from the parser's character buffer.
+ * <p>
+ * Instants may be ISO-8601 strings, or numeric timestamps in the same form as accepted by the
+ * {@code jackson-datatype-jsr310} module. Unknown properties, such as {@code duration}, are skipped.
+ */
+public final class TimespanDeserializer extends StdDeserializer<Timespan> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+
+    public TimespanDeserializer() {
+        super(Timespan.class);
+    }
+
+    @Override
+    public Timespan deserialize(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = p.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (Timespan) ctxt.handleUnexpectedToken(Timespan.class, p);
+        }
+
+        final InstantReader start = new InstantReader();
+        final InstantReader end = new InstantReader();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            final String name = p.currentName();
+            p.nextToken();
+            if ("start".equals(name)) {
+                start.read(p, ctxt);
+            } else if ("end".equals(name)) {
+                end.read(p, ctxt);
+            } else {
+                p.skipChildren();
+            }
+        }
+
+        if (!start.present) {
+            throw ctxt.instantiationException(Timespan.class, "start must not be null");
+        }
+        try {
+            return end.present
+                    ? Timespan.ofEpochSecond(start.epochSecond, start.nano, end.epochSecond, end.nano)
+                    : Timespan.startingEpochSecond(start.epochSecond, start.nano);
+        } catch (final DateTimeException e) {
+            throw ctxt.instantiationException(Timespan.class, e);
+        }
+    }
+
+    private static final class InstantReader {
+
+        private final IsoInstantParser parser = new IsoInstantParser();
+        private boolean present;
+        private long epochSecond;
+        private int nano;
+
+        void read(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            switch (p.currentToken()) {
+                case VALUE_NULL:
+                    present = false;
+                    return;
+                case VALUE_STRING:
+                    readString(p, ctxt);
+                    break;
+                case VALUE_NUMBER_INT:
+                    readInt(p, ctxt);
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    readDecimal(p.getDecimalValue());
+                    break;
+                default:
+                    ctxt.handleUnexpectedToken(Instant.class, p);
+                    return;
+            }
+            present = true;
+        }
+
+        private void readString(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            final CharBuffer text = CharBuffer.wrap(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+            try {
+                parser.parse(text, 0, text.length());
+            } catch (final DateTimeParseException e) {
+                throw ctxt.weirdStringException(text.toString(), Instant.class,
+                        "Failed to deserialize java.time.Instant: (" + e.getClass().getName() + ") " + e.getMessage());
+            }
+            epochSecond = parser.epochSecond();
+            nano = parser.nano();
+        }
+
+        private void readInt(final JsonParser p, final DeserializationContext ctxt) throws IOException {
+            final long value = p.getLongValue();
+            if (ctxt.isEnabled(READ_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+                epochSecond = value;
+                nano = 0;
+            } else {
+                epochSecond = Math.floorDiv(value, 1000);
+                nano = Math.floorMod(value, 1000) * 1_000_000;
+            }
+        }
+
+        /**
+         * Splits a decimal number of seconds in the same way as the {@code jackson-datatype-jsr310} module,
+         * where the nanos of a negative value are added to its whole seconds. This mirrors how that module
+         * writes negative instants, so they round trip.
+         */
+        private void readDecimal(final BigDecimal value) {
+            final BigDecimal nanoseconds = value.scaleByPowerOfTen(9);
+            long seconds = 0;
+            long nanos = 0;
+            if (nanoseconds.precision() - nanoseconds.scale() > 0 && value.scale() >= -63) {
+                seconds = value.longValue();
+                nanos = nanoseconds.subtract(BigDecimal.valueOf(seconds).scaleByPowerOfTen(9)).intValue();
+                if (seconds < 0 && seconds > Instant.MIN.getEpochSecond()) {
+                    nanos = Math.abs(nanos);
+                }
+            }
+            epochSecond = Math.addExact(seconds, Math.floorDiv(nanos, NANOS_PER_SECOND));
+            nano = Math.floorMod(nanos, NANOS_PER_SECOND);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import org.rhyssaldanha.time.Timespan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_ABSENT;
+
+/**
+ * Jackson mix-in which describes {@link Timespan} with annotations, for use with the
+ * {@code jackson-datatype-jsr310} and {@code jackson-datatype-jdk8} modules instead of {@link TimespanModule}.
+ * <p>
+ * {@code Timespan} itself carries no Jackson annotations, so that it can be used without Jackson.
+ * Register this class with {@code addMixIn(Timespan.class, TimespanMixIn.class)}.
+ * <p>
+ * Timespans are read by {@link TimespanDeserializer}, which accepts the same instants as the
+ * {@code jackson-datatype-jsr310} module, treats a missing or null end as start-only, and skips unknown properties.
+ */
+@JsonInclude(NON_ABSENT)
+@JsonPropertyOrder({"start", "end", "duration"})
+@JsonDeserialize(using = TimespanDeserializer.class)
+public abstract class TimespanMixIn {
+
+    private TimespanMixIn() {
+    }
+
+    @JsonGetter("start")
+    abstract Instant start();
+
+    @JsonGetter("end")
+    abstract Optional<Instant> end();
+
+    @JsonIgnore
+    abstract boolean isStartOnly();
+
+    @JsonGetter
+    abstract Optional<Duration> duration();
+}
@@ -0,0 +1,23 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.rhyssaldanha.time.Timespan;
+
+/**
+ * Jackson module which reads and writes {@link Timespan}s with a dedicated serializer and deserializer.
+ * <p>
+ * The JSON is the same as that produced by {@link TimespanMixIn} with the
+ * {@code jackson-datatype-jsr310} and {@code jackson-datatype-jdk8} modules, including how the
+ * {@code WRITE_DATES_AS_TIMESTAMPS}, {@code WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS} and
+ * {@code WRITE_DURATIONS_AS_TIMESTAMPS} features are honoured, but neither of those modules is needed.
+ */
+public final class TimespanModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    public TimespanModule() {
+        super(TimespanModule.class.getSimpleName());
+        addSerializer(Timespan.class, new TimespanSerializer());
+        addDeserializer(Timespan.class, new TimespanDeserializer());
+    }
+}
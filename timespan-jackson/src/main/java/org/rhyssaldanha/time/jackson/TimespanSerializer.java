@@ -0,0 +1,119 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.rhyssaldanha.time.Timespan;
+import org.rhyssaldanha.time.format.IsoDurationFormatter;
+import org.rhyssaldanha.time.format.IsoInstantFormatter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS;
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS;
+
+/**
+ * Writes a {@link Timespan} token by token, from its primitive fields.
+ */
+public final class TimespanSerializer extends StdSerializer<Timespan> {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final SerializableString START = new SerializedString("start");
+    private static final SerializableString END = new SerializedString("end");
+    private static final SerializableString DURATION = new SerializedString("duration");
+
+    private static final int NANOS_PER_SECOND = 1_000_000_000;
+    /* A signed epoch second, a point and nine digits of nanos */
+    private static final int MAX_DECIMAL_LENGTH = 30;
+    private static final int BUFFER_LENGTH = Math.max(MAX_DECIMAL_LENGTH,
+            Math.max(IsoInstantFormatter.MAX_LENGTH, IsoDurationFormatter.MAX_LENGTH));
+
+    /* Serializers are shared between threads, so each thread formats into its own buffer */
+    private static final ThreadLocal<char[]> BUFFERS = ThreadLocal.withInitial(() -> new char[BUFFER_LENGTH]);
+
+    public TimespanSerializer() {
+        super(Timespan.class);
+    }
+
+    @Override
+    public void serialize(final Timespan value, final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        final char[] buffer = BUFFERS.get();
+
+        gen.writeStartObject(value);
+        gen.writeFieldName(START);
+        writeInstant(value.startEpochSecond(), value.startNano(), buffer, gen, provider);
+        if (!value.isStartOnly()) {
+            gen.writeFieldName(END);
+            writeInstant(value.endEpochSecond(), value.endNano(), buffer, gen, provider);
+
+            long durationSeconds = value.endEpochSecond() - value.startEpochSecond();
+            int durationNanos = value.endNano() - value.startNano();
+            if (durationNanos < 0) {
+                durationSeconds--;
+                durationNanos += NANOS_PER_SECOND;
+            }
+            gen.writeFieldName(DURATION);
+            writeDuration(durationSeconds, durationNanos, buffer, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeInstant(final long seconds, final int nanos, final char[] buffer,
+                                     final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (!provider.isEnabled(WRITE_DATES_AS_TIMESTAMPS)) {
+            gen.writeString(buffer, 0, IsoInstantFormatter.format(seconds, nanos, buffer, 0));
+        } else if (provider.isEnabled(WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+            writeDecimal(seconds, nanos, buffer, gen);
+        } else {
+            gen.writeNumber(Math.addExact(Math.multiplyExact(seconds, 1000), nanos / 1_000_000));
+        }
+    }
+
+    private static void writeDuration(final long seconds, final int nanos, final char[] buffer,
+                                      final JsonGenerator gen, final SerializerProvider provider) throws IOException {
+        if (!provider.isEnabled(WRITE_DURATIONS_AS_TIMESTAMPS)) {
+            gen.writeString(buffer, 0, IsoDurationFormatter.format(seconds, nanos, buffer, 0));
+        } else if (provider.isEnabled(WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+            writeDecimal(seconds, nanos, buffer, gen);
+        } else {
+            gen.writeNumber(Math.addExact(Math.multiplyExact(seconds, 1000), nanos / 1_000_000));
+        }
+    }
+
+    /**
+     * Writes seconds and nanos as a decimal number with nine fractional digits, in the same way as the
+     * {@code jackson-datatype-jsr310} module. Zero seconds are formatted by {@link BigDecimal}, which can
+     * switch to scientific notation for tiny values.
+     */
+    private static void writeDecimal(final long seconds, final int nanos, final char[] buffer,
+                                     final JsonGenerator gen) throws IOException {
+        if (seconds == 0) {
+            gen.writeNumber(nanos == 0
+                    ? BigDecimal.ZERO.setScale(1)
+                    : BigDecimal.valueOf(nanos, 9));
+            return;
+        }
+
+        int position = buffer.length;
+        int remainingNanos = nanos;
+        for (int i = 0; i < 9; i++) {
+            buffer[--position] = (char) ('0' + remainingNanos % 10);
+            remainingNanos /= 10;
+        }
+        buffer[--position] = '.';
+        long remainingSeconds = Math.abs(seconds);
+        do {
+            buffer[--position] = (char) ('0' + remainingSeconds % 10);
+            remainingSeconds /= 10;
+        } while (remainingSeconds != 0);
+        if (seconds < 0) {
+            buffer[--position] = '-';
+        }
+        gen.writeNumber(buffer, position, buffer.length - position);
+    }
+}
@@ -0,0 +1,86 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TimespanMixInTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .addMixIn(Timespan.class, TimespanMixIn.class)
+            .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
+            .build();
+
+    @Nested
+    @DisplayName("With timespan")
+    class WithTimespan {
+        private final Timespan TIMESPAN = Timespan.of(START, END);
+
+        @Test
+        @DisplayName("can serialise")
+        void serialise() throws Exception {
+            final String actualJson = objectMapper.writeValueAsString(TIMESPAN);
+            final String expectedJson = Files.readString(Paths.get("src", "test", "resources", "timespan.json"));
+
+            JSONAssert.assertEquals(expectedJson, actualJson, JSONCompareMode.STRICT);
+        }
+
+        @Test
+        @DisplayName("can deserialise")
+        void deserialise() throws Exception {
+            final String json = Files.readString(Paths.get("src", "test", "resources", "timespan.json"));
+            final Timespan actualTimespan = objectMapper.readValue(json, Timespan.class);
+
+            assertEquals(TIMESPAN, actualTimespan);
+        }
+    }
+
+    @Nested
+    @DisplayName("With start-only timespan")
+    class WithStartTimespan {
+        private final Timespan TIMESPAN = Timespan.starting(START);
+
+        @Test
+        @DisplayName("can serialise")
+        void serialise() throws Exception {
+            final String actualJson = objectMapper.writeValueAsString(TIMESPAN);
+            final String expectedJson = Files.readString(Paths.get("src", "test", "resources", "start-only-timespan.json"));
+
+            JSONAssert.assertEquals(expectedJson, actualJson, JSONCompareMode.STRICT);
+        }
+
+        @Test
+        @DisplayName("can deserialise")
+        void deserialise() throws Exception {
+            final String json = Files.readString(Paths.get("src", "test", "resources", "start-only-timespan.json"));
+            final Timespan actualTimespan = objectMapper.readValue(json, Timespan.class);
+
+            assertEquals(TIMESPAN, actualTimespan);
+        }
+
+        @Test
+        @DisplayName("can deserialise a null end")
+        void deserialiseNullEnd() throws Exception {
+            final Timespan actualTimespan = objectMapper.readValue("{\"start\":\"2020-02-08T09:00:00Z\",\"end\":null}", Timespan.class);
+
+            assertEquals(TIMESPAN, actualTimespan);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.rhyssaldanha.time.jackson;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.ValueInstantiationException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.rhyssaldanha.time.Timespan;
+import org.skyscreamer.jsonassert.JSONAssert;
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimespanModuleTest {
+
+    private static final Instant START = Instant.parse("2020-02-08T09:00:00Z");
+    private static final Instant END = START.plus(Duration.ofHours(5));
+
+    private static final List<Timespan> TIMESPANS = List.of(
+            Timespan.of(START, END),
+            Timespan.starting(START),
+            Timespan.of(START, START),
+            Timespan.of(START, END.plusNanos(500)),
+            Timespan.of(Instant.ofEpochSecond(-1, 5), Instant.ofEpochSecond(0, 0)),
+            Timespan.of(Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(0, 501)),
+            Timespan.of(Instant.parse("-1000-02-08T09:00:00Z"), Instant.parse("+12345-02-08T09:00:00.000001Z")));
+
+    enum Features {
+        ISO(false, true, true),
+        NANOSECOND_TIMESTAMPS(true, true, true),
+        MILLISECOND_TIMESTAMPS(true, false, true),
+        ISO_DURATIONS(false, true, false);
+
+        private final boolean datesAsTimestamps;
+        private final boolean timestampsAsNanoseconds;
+        private final boolean durationsAsTimestamps;
+
+        Features(final boolean datesAsTimestamps, final boolean timestampsAsNanoseconds, final boolean durationsAsTimestamps) {
+            this.datesAsTimestamps = datesAsTimestamps;
+            this.timestampsAsNanoseconds = timestampsAsNanoseconds;
+            this.durationsAsTimestamps = durationsAsTimestamps;
+        }
+
+        JsonMapper.Builder configure(final JsonMapper.Builder builder) {
+            return builder
+                    .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, datesAsTimestamps)
+                    .configure(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS, timestampsAsNanoseconds)
+                    .configure(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS, timestampsAsNanoseconds)
+                    .configure(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS, durationsAsTimestamps);
+        }
+
+        /**
+         * @return a timespan as it reads back after being written with these features
+         */
+        Timespan precise(final Timespan timespan) {
+            if (!datesAsTimestamps || timestampsAsNanoseconds) {
+                return timespan;
+            }
+            final Instant start = timespan.start().truncatedTo(ChronoUnit.MILLIS);
+            return timespan.end()
+                    .map(end -> Timespan.of(start, end.truncatedTo(ChronoUnit.MILLIS)))
+                    .orElseGet(() -> Timespan.starting(start));
+        }
+    }
+
+    private static ObjectMapper annotated(final Features features) {
+        return features.configure(JsonMapper.builder().findAndAddModules().addMixIn(Timespan.class, TimespanMixIn.class)).build();
+    }
+
+    private static ObjectMapper module(final Features features) {
+        return features.configure(JsonMapper.builder().addModule(new TimespanModule())).build();
+    }
+
+    @Test
+    @DisplayName("writes exactly the same JSON as the annotations")
+    void sameJson() throws Exception {
+        for (final Features features : Features.values()) {
+            for (final Timespan timespan : TIMESPANS) {
+                assertEquals(annotated(features).writeValueAsString(timespan), module(features).writeValueAsString(timespan));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reads back the timespans written by the annotations")
+    void readsAnnotatedJson() throws Exception {
+        for (final Features features : Features.values()) {
+            for (final Timespan timespan : TIMESPANS) {
+                final String json = annotated(features).writeValueAsString(timespan);
+                final Timespan expected = features.precise(timespan);
+                assertEquals(expected, annotated(features).readValue(json, Timespan.class), features + " " + json);
+                assertEquals(expected, module(features).readValue(json, Timespan.class), features + " " + json);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("reads the JSON fixtures whatever the features")
+    void readsFixtures() throws Exception {
+        final String json = Files.readString(Paths.get("src", "test", "resources", "timespan.json"));
+        final String startOnlyJson = Files.readString(Paths.get("src", "test", "resources", "start-only-timespan.json"));
+        for (final Features features : Features.values()) {
+            for (final ObjectMapper objectMapper : List.of(annotated(features), module(features))) {
+                assertEquals(Timespan.of(START, END), objectMapper.readValue(json, Timespan.class));
+                assertEquals(Timespan.starting(START), objectMapper.readValue(startOnlyJson, Timespan.class));
+            }
+        }
+    }
+
+    @Nested
+    class Json {
+        private final ObjectMapper objectMapper = module(Features.ISO);
+
+        @Test
+        @DisplayName("can serialise")
+        void serialise() throws Exception {
+            final String expectedJson = Files.readString(Paths.get("src", "test", "resources", "timespan.json"));
+
+            JSONAssert.assertEquals(expectedJson, objectMapper.writeValueAsString(Timespan.of(START, END)), JSONCompareMode.STRICT);
+        }
+
+        @Test
+        @DisplayName("can deserialise")
+        void deserialise() throws Exception {
+            final String json = Files.readString(Paths.get("src", "test", "resources", "start-only-timespan.json"));
+
+            assertEquals(Timespan.starting(START), objectMapper.readValue(json, Timespan.class));
+        }
+
+        @Test
+        @DisplayName("null end is a start-only timespan")
+        void nullEnd() throws Exception {
+            assertEquals(Timespan.starting(START), objectMapper.readValue("{\"start\":\"2020-02-08T09:00:00Z\",\"end\":null}", Timespan.class));
+            assertNull(objectMapper.readValue("null", Timespan.class));
+        }
+
+        @Test
+        @DisplayName("invalid timespans are rejected")
+        void invalid() {
+            assertTrue(assertThrows(ValueInstantiationException.class,
+                    () -> objectMapper.readValue("{\"end\":\"2020-02-08T09:00:00Z\"}", Timespan.class)).getOriginalMessage()
+                    .endsWith("start must not be null"));
+            assertEquals("end must not be before start", assertThrows(ValueInstantiationException.class,
+                    () -> objectMapper.readValue("{\"start\":\"2020-02-08T09:00:00Z\",\"end\":\"2020-02-08T08:00:00Z\"}", Timespan.class)).getCause().getMessage());
+            assertThrows(InvalidFormatException.class, () -> objectMapper.readValue("{\"start\":\"bogus\"}", Timespan.class));
+        }
+    }
+}